@@ -17,30 +17,45 @@ package org.reaktivity.nukleus.maven.plugin.internal;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.Scanner;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
 {
     @Parameter(defaultValue = "${project}", readonly = true)
     protected MavenProject project;
 
+    @Parameter(defaultValue = "${session}", readonly = true)
+    protected MavenSession session;
+
     @Parameter(defaultValue = "src/main/reaktivity")
     protected File inputDirectory;
 
     @Parameter(defaultValue = "src/main/resources/META-INF/reaktivity")
     protected File metaDirectory;
 
-    @Parameter(required = true)
-    protected String scopeNames;
+    @Parameter
+    protected String scopeNames = "";
+
+    @Parameter(property = "reaktivity.lazyWrap", defaultValue = "false")
+    protected boolean lazyWrap;
+
+    @Parameter(property = "reaktivity.threads", defaultValue = "1")
+    protected int threads;
+
+    @Parameter(property = "reaktivity.cacheDirectory", defaultValue = "${settings.localRepository}/.cache/reaktivity/idl")
+    protected File cacheDirectory;
+
+    @Component
+    protected BuildContext buildContext;
 
     private Parser parser = new Parser()
             .debug(getLog()::debug)
@@ -52,23 +67,30 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
     protected final List<AstSpecificationNode> parseAST(
         List<String> targetScopes) throws IOException
     {
-        return parser.parseAST(targetScopes, createLoader());
+        return parser.threads(threads)
+                     .sessionCache(SessionCache.of(session))
+                     .cacheDirectory(cacheDirectory)
+                     .parseAST(targetScopes, createLoader());
     }
 
-    ClassLoader createLoader() throws IOException
+    protected final boolean hasResourceChanges()
     {
-        List<URL> resourcePath = new LinkedList<>();
+        return !buildContext.isIncremental() ||
+                hasResourceChanges(inputDirectory) ||
+                hasResourceChanges(metaDirectory);
+    }
 
-        resourcePath.add(inputDirectory.getAbsoluteFile().toURI().toURL());
-        resourcePath.add(metaDirectory.getAbsoluteFile().toURI().toURL());
+    ClassLoader createLoader() throws IOException
+    {
+        ResourceIndex index = new ResourceIndex(getClass().getClassLoader(), getLog()::warn)
+                .directory(inputDirectory)
+                .directory(metaDirectory);
 
         try
         {
             for (Object resourcePathEntry : project.getTestClasspathElements())
             {
-                File resourcePathFile = new File(resourcePathEntry.toString());
-                URI resourcePathURI = resourcePathFile.getAbsoluteFile().toURI();
-                resourcePath.add(URI.create(String.format("jar:%s!/META-INF/reaktivity/", resourcePathURI)).toURL());
+                index.archive(new File(resourcePathEntry.toString()));
             }
         }
         catch (DependencyResolutionRequiredException e)
@@ -76,9 +98,23 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
             throw new IOException(e);
         }
 
-        getLog().debug("resource path: " + resourcePath);
+        getLog().debug("resource index: " + index);
+
+        return index;
+    }
 
-        ClassLoader parent = getClass().getClassLoader();
-        return new URLClassLoader(resourcePath.toArray(new URL[resourcePath.size()]), parent);
+    private boolean hasResourceChanges(
+        File directory)
+    {
+        return directory.isDirectory() && hasIncludedFiles(buildContext.newScanner(directory)) ||
+                hasIncludedFiles(buildContext.newDeleteScanner(directory));
+    }
+
+    private static boolean hasIncludedFiles(
+        Scanner scanner)
+    {
+        scanner.setIncludes(new String[] { "**/*.idl" });
+        scanner.scan();
+        return scanner.getIncludedFiles().length != 0;
     }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.serialize.AstSerializer;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser;
+
+final class AstCache
+{
+    static final String GRAMMAR_VERSION =
+            Hashing.sha256(NukleusParser._serializedATN, Integer.toString(AstSerializer.FORMAT_VERSION));
+
+    private final Path directory;
+    private final AstSerializer serializer;
+
+    AstCache(
+        File directory)
+    {
+        this.directory = directory.toPath();
+        this.serializer = new AstSerializer();
+    }
+
+    AstSpecificationNode lookup(
+        URL resource,
+        String contentHash) throws IOException
+    {
+        Path entry = entry(resource, contentHash);
+        if (entry == null || !Files.isRegularFile(entry))
+        {
+            return null;
+        }
+
+        try (InputStream input = Files.newInputStream(entry))
+        {
+            return serializer.deserialize(new DataInputStream(new BufferedInputStream(input)));
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            Files.deleteIfExists(entry);
+            return null;
+        }
+    }
+
+    void store(
+        URL resource,
+        String contentHash,
+        AstSpecificationNode specification) throws IOException
+    {
+        Path entry = entry(resource, contentHash);
+        if (entry != null)
+        {
+            Files.createDirectories(directory);
+            Path partial = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try
+            {
+                try (OutputStream output = Files.newOutputStream(partial))
+                {
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+                    serializer.serialize(specification, out);
+                    out.flush();
+                }
+                Files.move(partial, entry, REPLACE_EXISTING, ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(partial);
+            }
+        }
+    }
+
+    private Path entry(
+        URL resource,
+        String contentHash)
+    {
+        if (!"jar".equals(resource.getProtocol()))
+        {
+            return null;
+        }
+
+        String location = resource.getPath();
+        int separatorAt = location.indexOf("!/");
+        if (separatorAt == -1)
+        {
+            return null;
+        }
+
+        File archive;
+        try
+        {
+            archive = new File(URI.create(location.substring(0, separatorAt)));
+        }
+        catch (IllegalArgumentException ex)
+        {
+            return null;
+        }
+
+        String entryName = location.substring(separatorAt + 2);
+        String key = Hashing.sha256(GRAMMAR_VERSION, archive.getAbsolutePath(), Long.toString(archive.length()),
+                Long.toString(archive.lastModified()), entryName, contentHash);
+
+        return directory.resolve(key + ".ast");
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.maven.plugins.annotations.LifecyclePhase.VERIFY;
+import static org.apache.maven.plugins.annotations.ResolutionScope.TEST;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+@Mojo(name = "bench",
+      defaultPhase = VERIFY,
+      requiresDependencyResolution = TEST,
+      requiresProject = true)
+public final class BenchMojo extends AbstractMojo
+{
+    private static final String JMH_MAIN = "org.openjdk.jmh.Main";
+
+    @Parameter(property = "reaktivity.bench.skip", defaultValue = "false")
+    protected boolean skip;
+
+    @Parameter(property = "reaktivity.bench.includes", defaultValue = ".*FWBM")
+    protected String includes;
+
+    @Parameter(property = "reaktivity.bench.args")
+    protected String jmhArgs;
+
+    @Parameter(property = "reaktivity.bench.threshold", defaultValue = "10")
+    protected double threshold;
+
+    @Parameter(property = "reaktivity.bench.baseline", defaultValue = "${project.basedir}/src/test/reaktivity/bench.csv")
+    protected File baselineFile;
+
+    @Parameter(property = "reaktivity.bench.updateBaseline", defaultValue = "false")
+    protected boolean updateBaseline;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/bench.csv")
+    protected File resultsFile;
+
+    JmhRunner runner = this::fork;
+
+    private List<String> regressions;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException
+    {
+        if (skip)
+        {
+            getLog().info("Skipping benchmarks");
+            return;
+        }
+
+        try
+        {
+            executeImpl();
+        }
+        catch (IOException e)
+        {
+            throw new MojoExecutionException("Unable to run benchmarks", e);
+        }
+
+        if (!regressions.isEmpty())
+        {
+            throw new MojoFailureException(String.format("%d benchmarks regressed by more than %s%% against %s",
+                    regressions.size(), threshold, baselineFile));
+        }
+    }
+
+    @Override
+    protected void executeImpl() throws IOException
+    {
+        regressions = new ArrayList<>();
+        resultsFile.getAbsoluteFile().getParentFile().mkdirs();
+
+        List<String> command = new ArrayList<>();
+        command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+        command.add("-cp");
+        command.add(String.join(File.pathSeparator, testClasspathElements()));
+        command.add(JMH_MAIN);
+        command.add(includes);
+        command.add("-rf");
+        command.add("csv");
+        command.add("-rff");
+        command.add(resultsFile.getPath());
+        if (jmhArgs != null)
+        {
+            Stream.of(jmhArgs.split("\\s+")).filter(s -> !s.isEmpty()).forEach(command::add);
+        }
+
+        getLog().debug("Running " + command);
+        int exitCode = runner.run(command);
+        if (exitCode != 0 || !resultsFile.isFile())
+        {
+            throw new IOException(String.format("JMH exited with code %d", exitCode));
+        }
+
+        BenchmarkResults results = BenchmarkResults.load(resultsFile);
+        if (updateBaseline)
+        {
+            baselineFile.getAbsoluteFile().getParentFile().mkdirs();
+            Files.copy(resultsFile.toPath(), baselineFile.toPath(), REPLACE_EXISTING);
+            getLog().info(String.format("Stored baseline of %d benchmarks in %s", results.scores().size(), baselineFile));
+            return;
+        }
+
+        if (!baselineFile.isFile())
+        {
+            getLog().warn(String.format("No baseline found at %s, results stored in %s " +
+                    "(run with -Dreaktivity.bench.updateBaseline to record them)", baselineFile, resultsFile));
+            return;
+        }
+
+        BenchmarkResults baseline = BenchmarkResults.load(baselineFile);
+        regressions.addAll(results.regressions(baseline, threshold));
+        regressions.forEach(getLog()::error);
+        if (regressions.isEmpty())
+        {
+            getLog().info(String.format("%d benchmarks within %s%% of %s", results.scores().size(), threshold, baselineFile));
+        }
+    }
+
+    private List<String> testClasspathElements() throws IOException
+    {
+        try
+        {
+            return project.getTestClasspathElements();
+        }
+        catch (DependencyResolutionRequiredException e)
+        {
+            throw new IOException(e);
+        }
+    }
+
+    private int fork(
+        List<String> command) throws IOException
+    {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8)))
+        {
+            output.lines().forEach(getLog()::info);
+        }
+
+        try
+        {
+            return process.waitFor();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new InterruptedIOException("Interrupted running benchmarks");
+        }
+    }
+
+    @FunctionalInterface
+    interface JmhRunner
+    {
+        int run(
+            List<String> command) throws IOException;
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+final class BenchmarkResults
+{
+    private static final String MODE_THROUGHPUT = "thrpt";
+    private static final String PARAM_PREFIX = "Param: ";
+
+    private final SortedMap<String, Score> scores;
+
+    BenchmarkResults()
+    {
+        this.scores = new TreeMap<>();
+    }
+
+    BenchmarkResults score(
+        String name,
+        String mode,
+        double value,
+        String unit)
+    {
+        scores.put(name, new Score(mode, value, unit));
+        return this;
+    }
+
+    Map<String, Score> scores()
+    {
+        return Collections.unmodifiableMap(scores);
+    }
+
+    List<String> regressions(
+        BenchmarkResults baseline,
+        double thresholdPercent)
+    {
+        List<String> regressions = new LinkedList<>();
+        for (Map.Entry<String, Score> entry : baseline.scores.entrySet())
+        {
+            String name = entry.getKey();
+            Score expected = entry.getValue();
+            Score actual = scores.get(name);
+            if (actual != null && expected.mode.equals(actual.mode) && expected.unit.equals(actual.unit))
+            {
+                double change = 100.0 * (actual.value - expected.value) / expected.value;
+                boolean regressed = MODE_THROUGHPUT.equals(actual.mode)
+                        ? change < -thresholdPercent
+                        : change > thresholdPercent;
+                if (regressed)
+                {
+                    regressions.add(String.format("%s: %.3f %s against baseline %.3f %s (%+.1f%%)",
+                            name, actual.value, actual.unit, expected.value, expected.unit, change));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    static BenchmarkResults load(
+        File file) throws IOException
+    {
+        BenchmarkResults results = new BenchmarkResults();
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), UTF_8))
+        {
+            List<String> header = fields(reader.readLine());
+            int benchmarkIndex = header.indexOf("Benchmark");
+            int modeIndex = header.indexOf("Mode");
+            int scoreIndex = header.indexOf("Score");
+            int unitIndex = header.indexOf("Unit");
+            if (benchmarkIndex == -1 || modeIndex == -1 || scoreIndex == -1 || unitIndex == -1)
+            {
+                throw new IOException("Unrecognized benchmark results: " + file);
+            }
+
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+            {
+                List<String> fields = fields(line);
+                String benchmark = fields.get(benchmarkIndex);
+                if (fields.size() != header.size() || benchmark.indexOf(':') != -1)
+                {
+                    continue;
+                }
+
+                StringBuilder name = new StringBuilder(benchmark);
+                String separator = " {";
+                for (int i = 0; i < header.size(); i++)
+                {
+                    String column = header.get(i);
+                    if (column.startsWith(PARAM_PREFIX))
+                    {
+                        name.append(separator)
+                            .append(column.substring(PARAM_PREFIX.length()))
+                            .append('=')
+                            .append(fields.get(i));
+                        separator = ", ";
+                    }
+                }
+                if (name.length() != benchmark.length())
+                {
+                    name.append('}');
+                }
+
+                double score = Double.parseDouble(fields.get(scoreIndex));
+                results.score(name.toString(), fields.get(modeIndex), score, fields.get(unitIndex));
+            }
+        }
+        return results;
+    }
+
+    private static List<String> fields(
+        String line)
+    {
+        List<String> fields = new ArrayList<>();
+        if (line != null)
+        {
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++)
+            {
+                char ch = line.charAt(i);
+                if (ch == '"')
+                {
+                    if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"')
+                    {
+                        field.append(ch);
+                        i++;
+                    }
+                    else
+                    {
+                        quoted = !quoted;
+                    }
+                }
+                else if (ch == ',' && !quoted)
+                {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                }
+                else
+                {
+                    field.append(ch);
+                }
+            }
+            fields.add(field.toString());
+        }
+        return fields;
+    }
+
+    static final class Score
+    {
+        private final String mode;
+        private final double value;
+        private final String unit;
+
+        private Score(
+            String mode,
+            double value,
+            String unit)
+        {
+            this.mode = mode;
+            this.value = value;
+            this.unit = unit;
+        }
+
+        String mode()
+        {
+            return mode;
+        }
+
+        double value()
+        {
+            return value;
+        }
+
+        String unit()
+        {
+            return unit;
+        }
+    }
+}
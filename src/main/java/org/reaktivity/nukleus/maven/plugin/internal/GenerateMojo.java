@@ -35,9 +35,21 @@ public final class GenerateMojo extends AbstractMojo
     @Parameter(defaultValue = "")
     protected String packageName;
 
+    @Parameter
+    protected String runtimePackageName;
+
+    @Parameter
+    protected String rootTypes;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-sources/reaktivity")
     protected File outputDirectory;
 
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/generate.manifest")
+    protected File manifestFile;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/generate-report.json")
+    protected File reportFile;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
@@ -54,15 +66,32 @@ public final class GenerateMojo extends AbstractMojo
     @Override
     protected void executeImpl() throws IOException
     {
+        project.addCompileSourceRoot(outputDirectory.getPath());
+
+        if (!hasResourceChanges())
+        {
+            getLog().debug("No IDL changes detected, skipping generation");
+            return;
+        }
+
         Generator generator = new Generator();
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
+        generator.info(getLog()::info);
         generator.warn(getLog()::warn);
+        generator.refresh(buildContext::refresh);
         generator.setPackageName(packageName);
+        generator.setRuntimePackageName(runtimePackageName);
+        generator.setRootTypes(rootTypes);
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(outputDirectory);
         generator.setScopeNames(scopeNames);
+        generator.setLazyWrap(lazyWrap);
+        generator.setThreads(threads);
+        generator.setCacheDirectory(cacheDirectory);
+        generator.setSessionCache(SessionCache.of(session));
+        generator.setManifestFile(manifestFile);
+        generator.setReportFile(reportFile);
         generator.generate(createLoader());
-        project.addCompileSourceRoot(outputDirectory.getPath());
     }
 }
@@ -15,21 +15,52 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.reaktivity.nukleus.maven.plugin.internal.GeneratorReport.PHASE_FINGERPRINT;
+import static org.reaktivity.nukleus.maven.plugin.internal.GeneratorReport.PHASE_PARSE;
+import static org.reaktivity.nukleus.maven.plugin.internal.GeneratorReport.PHASE_RESOLVE;
+import static org.reaktivity.nukleus.maven.plugin.internal.GeneratorReport.PHASE_VISIT;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collection;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.visit.ScopeVisitor;
@@ -44,24 +75,48 @@ import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeSpecGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.Varint32FlyweightGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.Varint64FlyweightGenerator;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
 
 public class Generator
 {
+    private static final long WATCH_SETTLE_MILLIS = 50L;
+    private static final int SOURCES_PER_THREAD = 8;
+
     private String scopeNames = "test";
     private File inputDirectory = new File("src/test/resources/test-project");
     private File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
     private String packageName = "org.reaktivity.reaktor.internal.test.types";
+    private String runtimePackageName;
+    private String rootTypes;
+    private boolean benchmarks;
+    private boolean lazyWrap;
+
+    private File manifestFile;
+    private File reportFile;
+    private GeneratorManifest lastManifest;
+    private int threads = 1;
+    private SessionCache sessionCache;
+    private SourcePipeline pipeline;
 
     private Parser parser = new Parser();
+    private Consumer<String> debug = s ->
+    { };
+    private Consumer<String> info = System.out::println;
+    private Consumer<String> error = System.err::println;
+    private Consumer<String> warn = System.err::println;
+    private Consumer<File> refresh = f ->
+    { };
 
     public static void main(
-        String[] args) throws IOException
+        String[] args) throws IOException, InterruptedException
     {
         Generator generator = new Generator();
         generator.error(System.out::println)
                  .warn(System.out::println);
         boolean verbose = false;
+        boolean watch = false;
         if (args.length > 0)
         {
             for (int i = 0; i < args.length; i++)
@@ -71,6 +126,27 @@ public class Generator
                     case "-v":
                         verbose = true;
                         break;
+                    case "-w":
+                        watch = true;
+                        break;
+                    case "-r":
+                        generator.setRuntimePackageName(args[i + 1]);
+                        i++;
+                        break;
+                    case "-l":
+                        generator.setLazyWrap(true);
+                        break;
+                    case "-p":
+                        generator.setPackageName(args[i + 1]);
+                        i++;
+                        break;
+                    case "-b":
+                        generator.setBenchmarks(true);
+                        break;
+                    case "-t":
+                        generator.setThreads(Integer.parseInt(args[i + 1]));
+                        i++;
+                        break;
                     case "-d":
                         final String baseDir = args[i + 1];
                         i++;
@@ -83,7 +159,14 @@ public class Generator
         {
             generator.debug(System.out::println);
         }
-        generator.generate();
+        if (watch)
+        {
+            generator.watch();
+        }
+        else
+        {
+            generator.generate();
+        }
     }
 
     void generate() throws IOException
@@ -91,73 +174,225 @@ public class Generator
         generate(createClassLoader());
     }
 
+    void watch() throws IOException, InterruptedException
+    {
+        setSessionCache(new SessionCache());
+
+        Path directory = inputDirectory.getAbsoluteFile().toPath();
+        try (WatchService watcher = directory.getFileSystem().newWatchService())
+        {
+            WatchKey key = register(watcher, directory);
+            regenerate();
+            info.accept("Watching " + directory);
+
+            while (key.isValid())
+            {
+                boolean changed = hasResourceChanges(watcher, watcher.take());
+                for (WatchKey next = watcher.poll(WATCH_SETTLE_MILLIS, MILLISECONDS);
+                     next != null;
+                     next = watcher.poll(WATCH_SETTLE_MILLIS, MILLISECONDS))
+                {
+                    changed |= hasResourceChanges(watcher, next);
+                }
+
+                if (changed)
+                {
+                    regenerate();
+                }
+            }
+        }
+    }
+
     void generate(ClassLoader loader) throws IOException
     {
-            List<String> targetScopes = unmodifiableList(asList(scopeNames.split("\\s+")));
-            List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader);
+        List<String> targetScopes = names(scopeNames);
+        List<String> roots = names(rootTypes);
+        String stamp = Hashing.sha256(generatorStamp(), packageName, runtimePackageName(),
+                String.join(" ", targetScopes), String.join(" ", roots), String.valueOf(benchmarks), String.valueOf(lazyWrap));
+        GeneratorManifest previous = lastManifest != null ? lastManifest : GeneratorManifest.load(manifestFile);
 
-            TypeResolver resolver = new TypeResolver(packageName);
-            specifications.forEach(resolver::visit);
+        if (previous.isUpToDate(stamp, loader, this::sourceFile))
+        {
+            lastManifest = previous;
+            info.accept(String.format("Sources up to date in %s (%d unchanged)",
+                    outputDirectory, previous.types().size()));
+            return;
+        }
 
-            Collection<TypeSpecGenerator<?>> typeSpecs = new HashSet<>();
+        GeneratorReport report = new GeneratorReport();
+        long mark = System.nanoTime();
+        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader);
+        mark = report.phase(PHASE_PARSE, mark);
+        report.types(specifications);
+
+        TypeResolver resolver = sessionCache != null
+                ? sessionCache.resolver(resolverKey(), resolverVersion(), () -> newResolver(specifications))
+                : newResolver(specifications);
+        mark = report.phase(PHASE_RESOLVE, mark);
+
+        TypeFingerprints types = new TypeFingerprints(stamp, specifications);
+        Map<String, String> fingerprints = fingerprints(types, resolver);
+        Set<String> pruned = pruned(types, roots, resolver);
+        mark = report.phase(PHASE_FINGERPRINT, mark);
+        GeneratorManifest manifest = new GeneratorManifest(stamp).resources(parser.resourceHashes());
+
+        info.accept("Generating to " + outputDirectory);
+
+        SourcePipeline pipeline = new SourcePipeline(stamp, fingerprints, pruned, previous, manifest, report);
+        this.pipeline = pipeline;
+        try
+        {
             for (AstSpecificationNode specification : specifications)
             {
                 String scopeName = specification.scope().name();
-                ScopeVisitor visitor = new ScopeVisitor(scopeName, packageName, resolver, targetScopes);
-                typeSpecs.addAll(specification.accept(visitor));
+                specification.accept(new ScopeVisitor(scopeName, packageName, resolver, targetScopes, pipeline,
+                        benchmarks, lazyWrap));
             }
 
-            typeSpecs.add(new FlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new OctetsFlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new StringFlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new String16FlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new ListFlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new ArrayFlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new Varint32FlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-            typeSpecs.add(new Varint64FlyweightGenerator(resolver.resolveClass(AstType.STRUCT)));
-
-            System.out.println("Generating to " + outputDirectory);
-
-            if (outputDirectory.exists())
+            if (packageName.equals(runtimePackageName()))
             {
-                Files.walk(outputDirectory.toPath())
-                     .map(Path::toFile)
-                     .filter(File::isFile)
-                     .forEach(f -> f.setWritable(true));
+                ClassName flyweightName = resolver.resolveClass(AstType.STRUCT);
+                pipeline.accept(new FlyweightGenerator(flyweightName));
+                pipeline.accept(new OctetsFlyweightGenerator(flyweightName));
+                pipeline.accept(new StringFlyweightGenerator(flyweightName));
+                pipeline.accept(new String16FlyweightGenerator(flyweightName));
+                pipeline.accept(new ListFlyweightGenerator(flyweightName));
+                pipeline.accept(new ArrayFlyweightGenerator(flyweightName));
+                pipeline.accept(new Varint32FlyweightGenerator(flyweightName));
+                pipeline.accept(new Varint64FlyweightGenerator(flyweightName));
             }
+            pipeline.flush();
+            pipeline.checkFailures();
+        }
+        catch (UncheckedIOException ex)
+        {
+            throw ex.getCause();
+        }
+        finally
+        {
+            pipeline.close();
+            this.pipeline = null;
+        }
+        report.phaseNanos(PHASE_VISIT, System.nanoTime() - mark - pipeline.flushNanos);
 
-            for (TypeSpecGenerator<?> typeSpec : typeSpecs)
+        int deleted = 0;
+        for (String className : previous.types().keySet())
+        {
+            if (!manifest.types().containsKey(className))
             {
-                JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), typeSpec.generate())
-                        .addFileComment("TODO: license")
-                        .skipJavaLangImports(true)
-                        .build();
-                sourceFile.writeTo(outputDirectory);
+                debug.accept("removed: " + className);
+                File sourceFile = sourceFile(className);
+                sourceFile.setWritable(true);
+                if (Files.deleteIfExists(sourceFile.toPath()))
+                {
+                    refresh.accept(sourceFile);
+                    deleted++;
+                }
             }
+        }
+
+        if (manifestFile != null)
+        {
+            manifest.store(manifestFile);
+        }
+        lastManifest = manifest;
 
-            if (outputDirectory.exists())
+        info.accept(String.format("Generated %d sources (%d written, %d unchanged, %d deleted)",
+                pipeline.count, pipeline.written, pipeline.count - pipeline.written, deleted));
+        if (!pruned.isEmpty())
+        {
+            info.accept(String.format("Pruned %d types unreachable from %s", pruned.size(), roots));
+        }
+
+        report.finish();
+        info.accept(report.summary());
+        if (reportFile != null)
+        {
+            report.store(reportFile);
+        }
+    }
+
+    private List<GeneratedSource> writeSources(
+        List<TypeSpecGenerator<?>> typeSpecs,
+        ForkJoinPool pool)
+    {
+        return pool != null
+                ? pool.submit(() -> writeSources(typeSpecs.parallelStream())).join()
+                : writeSources(typeSpecs.stream());
+    }
+
+    private List<GeneratedSource> writeSources(
+        Stream<TypeSpecGenerator<?>> typeSpecs)
+    {
+        return typeSpecs.map(this::writeSource).collect(toList());
+    }
+
+    private GeneratedSource writeSource(
+        TypeSpecGenerator<?> typeSpec)
+    {
+        ClassName className = typeSpec.className();
+        File file = sourceFile(className.toString());
+        try
+        {
+            long generateAt = System.nanoTime();
+            TypeSpec generated = typeSpec.generate();
+            long writeAt = System.nanoTime();
+
+            JavaFile sourceFile = JavaFile.builder(className.packageName(), generated)
+                    .addFileComment("TODO: license")
+                    .skipJavaLangImports(true)
+                    .build();
+            byte[] content = sourceFile.toString().getBytes(UTF_8);
+
+            byte[] previous = file.isFile() ? Files.readAllBytes(file.toPath()) : null;
+            boolean written = previous == null || !Arrays.equals(content, previous);
+            if (written)
             {
-                Files.walk(outputDirectory.toPath())
-                     .map(Path::toFile)
-                     .filter(File::isFile)
-                     .forEach(f -> f.setWritable(false));
+                file.getParentFile().mkdirs();
+                file.setWritable(true);
+                Files.write(file.toPath(), content);
+                file.setWritable(false);
             }
+
+            long writtenAt = System.nanoTime();
+            return new GeneratedSource(className, written, writeAt - generateAt, writtenAt - writeAt, content.length,
+                    previous != null ? previous.length : -1);
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            return new GeneratedSource(className, ex);
+        }
     }
 
     Generator debug(Consumer<String> debug)
     {
+        this.debug = debug;
         parser.debug(debug);
         return this;
     }
 
     Generator error(Consumer<String> error)
     {
+        this.error = error;
         parser.error(error);
         return this;
     }
 
+    Generator info(Consumer<String> info)
+    {
+        this.info = info;
+        return this;
+    }
+
+    Generator refresh(Consumer<File> refresh)
+    {
+        this.refresh = refresh;
+        return this;
+    }
+
     Generator warn(Consumer<String> warn)
     {
+        this.warn = warn;
         parser.warn(warn);
         return this;
     }
@@ -174,6 +409,30 @@ public class Generator
         this.packageName = packageName;
     }
 
+    void setRuntimePackageName(
+        String runtimePackageName)
+    {
+        this.runtimePackageName = runtimePackageName;
+    }
+
+    void setRootTypes(
+        String rootTypes)
+    {
+        this.rootTypes = rootTypes;
+    }
+
+    void setBenchmarks(
+        boolean benchmarks)
+    {
+        this.benchmarks = benchmarks;
+    }
+
+    void setLazyWrap(
+        boolean lazyWrap)
+    {
+        this.lazyWrap = lazyWrap;
+    }
+
     void setInputDirectory(
         File inputDirectory)
     {
@@ -186,10 +445,400 @@ public class Generator
         this.outputDirectory = outputDirectory;
     }
 
-    private ClassLoader createClassLoader() throws MalformedURLException
+    int pendingSources()
     {
-        ClassLoader parent = Thread.currentThread().getContextClassLoader();
-        return new URLClassLoader(new URL[]{inputDirectory.getAbsoluteFile().toURI().toURL()}, parent);
+        return pipeline != null ? pipeline.batch.size() : 0;
     }
 
+    void setThreads(
+        int threads)
+    {
+        this.threads = threads;
+        parser.threads(threads);
+    }
+
+    void setSessionCache(
+        SessionCache sessionCache)
+    {
+        this.sessionCache = sessionCache;
+        parser.sessionCache(sessionCache);
+    }
+
+    void setCacheDirectory(
+        File cacheDirectory)
+    {
+        parser.cacheDirectory(cacheDirectory);
+    }
+
+    void setReportFile(
+        File reportFile)
+    {
+        this.reportFile = reportFile;
+    }
+
+    void setManifestFile(
+        File manifestFile)
+    {
+        this.manifestFile = manifestFile;
+    }
+
+    private File sourceFile(
+        String className)
+    {
+        return new File(outputDirectory, className.replace('.', File.separatorChar) + ".java");
+    }
+
+    private Map<String, String> fingerprints(
+        TypeFingerprints types,
+        TypeResolver resolver)
+    {
+        Map<String, String> fingerprintsByClassName = new HashMap<>();
+        types.forEach((qualifiedName, node) ->
+        {
+            String fingerprint = types.fingerprint(qualifiedName);
+            classNames(qualifiedName, node, resolver).forEach(c -> fingerprintsByClassName.put(c, fingerprint));
+        });
+        return fingerprintsByClassName;
+    }
+
+    private Set<String> pruned(
+        TypeFingerprints types,
+        List<String> roots,
+        TypeResolver resolver)
+    {
+        if (roots.isEmpty())
+        {
+            return emptySet();
+        }
+
+        roots.stream()
+             .filter(r -> !types.contains(r))
+             .forEach(r -> warn.accept(String.format("Root type %s not found", r)));
+
+        Set<String> reachable = types.reachable(roots);
+        Set<String> pruned = new HashSet<>();
+        types.forEach((qualifiedName, node) ->
+        {
+            if (!reachable.contains(qualifiedName))
+            {
+                pruned.addAll(classNames(qualifiedName, node, resolver));
+            }
+        });
+        return pruned;
+    }
+
+    private List<String> classNames(
+        String qualifiedName,
+        AstNode node,
+        TypeResolver resolver)
+    {
+        ClassName className = resolver.resolveClass(AstType.dynamicType(qualifiedName));
+        if (node instanceof AstEnumNode)
+        {
+            String enumName = ((AstEnumNode) node).name();
+            return asList(className.toString(), className.peerClass(enumName).toString());
+        }
+        else if (benchmarks)
+        {
+            return asList(className.toString(), className.peerClass(className.simpleName() + "BM").toString());
+        }
+        return singletonList(className.toString());
+    }
+
+    private static List<String> names(
+        String names)
+    {
+        if (names == null)
+        {
+            return emptyList();
+        }
+
+        return unmodifiableList(Stream.of(names.split("\\s+"))
+                                      .filter(s -> !s.isEmpty())
+                                      .collect(toList()));
+    }
+
+    private static String generatorStamp()
+    {
+        CodeSource codeSource = Generator.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null)
+        {
+            return "";
+        }
+
+        URL location = codeSource.getLocation();
+        try
+        {
+            File file = new File(location.toURI());
+            return String.format("%s:%d:%d", location, file.length(), file.lastModified());
+        }
+        catch (URISyntaxException | IllegalArgumentException ex)
+        {
+            return location.toString();
+        }
+    }
+
+    private void regenerate()
+    {
+        long startedAt = System.nanoTime();
+        try
+        {
+            generate();
+            info.accept(String.format("Regenerated in %d ms", NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            error.accept(String.format("Unable to generate: %s", ex));
+        }
+    }
+
+    private static boolean hasResourceChanges(
+        WatchService watcher,
+        WatchKey key) throws IOException
+    {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents())
+        {
+            if (event.kind() == OVERFLOW)
+            {
+                changed = true;
+                continue;
+            }
+
+            Path path = ((Path) key.watchable()).resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path))
+            {
+                register(watcher, path);
+                changed = true;
+            }
+            else
+            {
+                changed |= path.toString().endsWith(".idl");
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private static WatchKey register(
+        WatchService watcher,
+        Path directory) throws IOException
+    {
+        WatchKey key = directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>()
+        {
+            @Override
+            public FileVisitResult preVisitDirectory(
+                Path dir,
+                BasicFileAttributes attrs) throws IOException
+            {
+                if (!dir.equals(directory))
+                {
+                    dir.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return key;
+    }
+
+    private String runtimePackageName()
+    {
+        return runtimePackageName != null && !runtimePackageName.isEmpty() ? runtimePackageName : packageName;
+    }
+
+    private TypeResolver newResolver(
+        List<AstSpecificationNode> specifications)
+    {
+        TypeResolver resolver = new TypeResolver(packageName, runtimePackageName());
+        specifications.forEach(resolver::visit);
+        return resolver;
+    }
+
+    private String resolverKey()
+    {
+        List<String> parts = new ArrayList<>();
+        parts.add(packageName);
+        parts.add(runtimePackageName());
+        parts.addAll(parser.resourceHashes().keySet());
+        return Hashing.sha256(parts.toArray(new String[0]));
+    }
+
+    private String resolverVersion()
+    {
+        return Hashing.sha256(parser.resourceHashes().values().toArray(new String[0]));
+    }
+
+    private ClassLoader createClassLoader() throws IOException
+    {
+        return new ResourceIndex(Thread.currentThread().getContextClassLoader(), warn).directory(inputDirectory);
+    }
+
+    private final class SourcePipeline implements Consumer<TypeSpecGenerator<?>>
+    {
+        private final String stamp;
+        private final Map<String, String> fingerprints;
+        private final Set<String> pruned;
+        private final GeneratorManifest previous;
+        private final GeneratorManifest manifest;
+        private final GeneratorReport report;
+        private final List<TypeSpecGenerator<?>> batch;
+        private final int batchSize;
+        private final ForkJoinPool pool;
+        private final List<GeneratedSource> failures;
+
+        private int count;
+        private int written;
+        private long flushNanos;
+
+        private SourcePipeline(
+            String stamp,
+            Map<String, String> fingerprints,
+            Set<String> pruned,
+            GeneratorManifest previous,
+            GeneratorManifest manifest,
+            GeneratorReport report)
+        {
+            this.stamp = stamp;
+            this.fingerprints = fingerprints;
+            this.pruned = pruned;
+            this.previous = previous;
+            this.manifest = manifest;
+            this.report = report;
+            this.batchSize = threads > 1 ? threads * SOURCES_PER_THREAD : 1;
+            this.batch = new ArrayList<>(batchSize);
+            this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+            this.failures = new ArrayList<>();
+        }
+
+        @Override
+        public void accept(
+            TypeSpecGenerator<?> typeSpec)
+        {
+            String className = typeSpec.className().toString();
+            if (pruned.contains(className))
+            {
+                debug.accept("pruned: " + className);
+                report.pruned(className);
+                return;
+            }
+
+            String fingerprint = fingerprints.computeIfAbsent(className, n -> Hashing.sha256(stamp, n));
+            manifest.type(className, fingerprint);
+            count++;
+
+            if (previous.isUnchanged(className, fingerprint, Generator.this::sourceFile))
+            {
+                debug.accept("unchanged: " + className);
+                return;
+            }
+
+            batch.add(typeSpec);
+            if (batch.size() >= batchSize)
+            {
+                flush();
+            }
+        }
+
+        private void flush()
+        {
+            if (batch.isEmpty())
+            {
+                return;
+            }
+
+            long startedAt = System.nanoTime();
+            try
+            {
+                for (GeneratedSource source : writeSources(batch, pool))
+                {
+                    if (source.failure != null)
+                    {
+                        failures.add(source);
+                        continue;
+                    }
+
+                    String className = source.className.toString();
+                    report.source(className, source.generateNanos, source.writeNanos, source.size, source.previousSize,
+                            source.written);
+                    if (source.written)
+                    {
+                        refresh.accept(sourceFile(className));
+                        written++;
+                    }
+                }
+            }
+            finally
+            {
+                batch.clear();
+                flushNanos += System.nanoTime() - startedAt;
+            }
+        }
+
+        private void checkFailures() throws IOException
+        {
+            if (!failures.isEmpty())
+            {
+                failures.sort(comparing(f -> f.className.toString()));
+                failures.forEach(f -> error.accept(String.format("Unable to generate %s: %s", f.className, f.failure)));
+
+                Exception failure = failures.get(0).failure;
+                failures.stream().skip(1).map(f -> f.failure).forEach(failure::addSuppressed);
+                if (failure instanceof IOException)
+                {
+                    throw (IOException) failure;
+                }
+                throw (RuntimeException) failure;
+            }
+        }
+
+        private void close()
+        {
+            if (pool != null)
+            {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static final class GeneratedSource
+    {
+        private final ClassName className;
+        private final boolean written;
+        private final long generateNanos;
+        private final long writeNanos;
+        private final int size;
+        private final int previousSize;
+        private final Exception failure;
+
+        private GeneratedSource(
+            ClassName className,
+            boolean written,
+            long generateNanos,
+            long writeNanos,
+            int size,
+            int previousSize)
+        {
+            this.className = className;
+            this.written = written;
+            this.generateNanos = generateNanos;
+            this.writeNanos = writeNanos;
+            this.size = size;
+            this.previousSize = previousSize;
+            this.failure = null;
+        }
+
+        private GeneratedSource(
+            ClassName className,
+            Exception failure)
+        {
+            this.className = className;
+            this.written = false;
+            this.generateNanos = 0L;
+            this.writeNanos = 0L;
+            this.size = 0;
+            this.previousSize = -1;
+            this.failure = failure;
+        }
+    }
 }
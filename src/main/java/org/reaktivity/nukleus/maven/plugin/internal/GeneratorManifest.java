@@ -0,0 +1,166 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+final class GeneratorManifest
+{
+    private static final String STAMP_KEY = "stamp";
+    private static final String RESOURCE_PREFIX = "resource.";
+    private static final String TYPE_PREFIX = "type.";
+
+    static final String MISSING_RESOURCE = "";
+
+    private final String stamp;
+    private final SortedMap<String, String> resources;
+    private final SortedMap<String, String> types;
+
+    GeneratorManifest(
+        String stamp)
+    {
+        this.stamp = stamp;
+        this.resources = new TreeMap<>();
+        this.types = new TreeMap<>();
+    }
+
+    GeneratorManifest resources(
+        Map<String, String> resources)
+    {
+        this.resources.putAll(resources);
+        return this;
+    }
+
+    GeneratorManifest type(
+        String className,
+        String fingerprint)
+    {
+        types.put(className, fingerprint);
+        return this;
+    }
+
+    Map<String, String> types()
+    {
+        return Collections.unmodifiableMap(types);
+    }
+
+    boolean isUnchanged(
+        String className,
+        String fingerprint,
+        Function<String, File> sourceFile)
+    {
+        return fingerprint.equals(types.get(className)) && sourceFile.apply(className).isFile();
+    }
+
+    boolean isUpToDate(
+        String stamp,
+        ClassLoader loader,
+        Function<String, File> sourceFile) throws IOException
+    {
+        if (!this.stamp.equals(stamp))
+        {
+            return false;
+        }
+
+        for (Map.Entry<String, String> entry : resources.entrySet())
+        {
+            String resourceName = entry.getKey();
+            URL resource = loader.getResource(resourceName);
+            if (!entry.getValue().equals(contentHash(resource)))
+            {
+                return false;
+            }
+        }
+
+        return types.keySet().stream().map(sourceFile).allMatch(File::isFile);
+    }
+
+    void store(
+        File file) throws IOException
+    {
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), UTF_8))
+        {
+            writer.write(String.format("%s=%s%n", STAMP_KEY, stamp));
+            for (Map.Entry<String, String> entry : resources.entrySet())
+            {
+                writer.write(String.format("%s%s=%s%n", RESOURCE_PREFIX, entry.getKey(), entry.getValue()));
+            }
+            for (Map.Entry<String, String> entry : types.entrySet())
+            {
+                writer.write(String.format("%s%s=%s%n", TYPE_PREFIX, entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    static GeneratorManifest load(
+        File file) throws IOException
+    {
+        if (file == null || !file.isFile())
+        {
+            return new GeneratorManifest(MISSING_RESOURCE);
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.toPath(), UTF_8))
+        {
+            properties.load(reader);
+        }
+
+        GeneratorManifest manifest = new GeneratorManifest(properties.getProperty(STAMP_KEY, MISSING_RESOURCE));
+        for (String key : properties.stringPropertyNames())
+        {
+            String value = properties.getProperty(key);
+            if (key.startsWith(RESOURCE_PREFIX))
+            {
+                manifest.resources.put(key.substring(RESOURCE_PREFIX.length()), value);
+            }
+            else if (key.startsWith(TYPE_PREFIX))
+            {
+                manifest.types.put(key.substring(TYPE_PREFIX.length()), value);
+            }
+        }
+        return manifest;
+    }
+
+    static String contentHash(
+        URL resource) throws IOException
+    {
+        if (resource == null)
+        {
+            return MISSING_RESOURCE;
+        }
+
+        try (InputStream input = resource.openStream())
+        {
+            return Hashing.sha256(input.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
+
+final class GeneratorReport
+{
+    static final String PHASE_PARSE = "parse";
+    static final String PHASE_RESOLVE = "resolve";
+    static final String PHASE_VISIT = "visit";
+    static final String PHASE_FINGERPRINT = "fingerprint";
+    static final String PHASE_GENERATE = "generate";
+    static final String PHASE_WRITE = "write";
+
+    private static final String MEMBER_PREFIX = "member.";
+
+    private final long started;
+    private final Map<String, Long> phases;
+    private final SortedMap<String, Integer> types;
+    private final SortedMap<String, Source> sources;
+    private final SortedSet<String> pruned;
+
+    private long elapsed;
+
+    GeneratorReport()
+    {
+        this.started = System.nanoTime();
+        this.phases = new LinkedHashMap<>();
+        this.types = new TreeMap<>();
+        this.sources = new TreeMap<>();
+        this.pruned = new TreeSet<>();
+    }
+
+    long phase(
+        String name,
+        long startedAt)
+    {
+        long finishedAt = System.nanoTime();
+        phases.merge(name, finishedAt - startedAt, Long::sum);
+        return finishedAt;
+    }
+
+    void phaseNanos(
+        String name,
+        long nanos)
+    {
+        phases.merge(name, nanos, Long::sum);
+    }
+
+    void types(
+        List<AstSpecificationNode> specifications)
+    {
+        TypeCountVisitor visitor = new TypeCountVisitor(types);
+        specifications.forEach(s -> s.accept(visitor));
+    }
+
+    void source(
+        String className,
+        long generateNanos,
+        long writeNanos,
+        int size,
+        int previousSize,
+        boolean written)
+    {
+        sources.put(className, new Source(generateNanos, writeNanos, size, previousSize, written));
+        phases.merge(PHASE_GENERATE, generateNanos, Long::sum);
+        phases.merge(PHASE_WRITE, writeNanos, Long::sum);
+    }
+
+    void pruned(
+        String className)
+    {
+        pruned.add(className);
+    }
+
+    void finish()
+    {
+        elapsed = System.nanoTime() - started;
+    }
+
+    String summary()
+    {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Generation took %d ms", NANOSECONDS.toMillis(elapsed)));
+        String separator = " (";
+        for (Map.Entry<String, Long> phase : phases.entrySet())
+        {
+            summary.append(separator)
+                   .append(String.format("%s %d ms", phase.getKey(), NANOSECONDS.toMillis(phase.getValue())));
+            separator = ", ";
+        }
+        if (!phases.isEmpty())
+        {
+            summary.append(')');
+        }
+        int declared = types.entrySet().stream()
+                            .filter(e -> !e.getKey().startsWith(MEMBER_PREFIX))
+                            .mapToInt(Map.Entry::getValue)
+                            .sum();
+        long size = sources.values().stream().mapToLong(s -> s.size).sum();
+        summary.append(String.format(", %d types, %d sources, %d bytes", declared, sources.size(), size));
+        if (sources.values().stream().anyMatch(s -> s.previousSize != -1))
+        {
+            long previousSize = sources.values().stream().mapToLong(s -> Math.max(s.previousSize, 0)).sum();
+            summary.append(String.format(" (previously %d bytes)", previousSize));
+        }
+        if (!pruned.isEmpty())
+        {
+            summary.append(String.format(", %d pruned", pruned.size()));
+        }
+        return summary.toString();
+    }
+
+    void store(
+        File file) throws IOException
+    {
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), UTF_8))
+        {
+            writer.write("{\n");
+            writer.write(String.format("  \"elapsedNanos\": %d,\n", elapsed));
+
+            writer.write("  \"phases\": {");
+            writeEntries(writer, phases.entrySet().iterator(), (w, e) -> w.write(e.getValue().toString()));
+            writer.write("},\n");
+
+            writer.write("  \"types\": {");
+            writeEntries(writer, types.entrySet().iterator(), (w, e) -> w.write(e.getValue().toString()));
+            writer.write("},\n");
+
+            writer.write("  \"sources\": {");
+            writeEntries(writer, sources.entrySet().iterator(), (w, e) ->
+            {
+                Source source = e.getValue();
+                w.write(String.format("{ \"generateNanos\": %d, \"writeNanos\": %d, \"size\": %d, " +
+                        "\"previousSize\": %d, \"written\": %b }",
+                        source.generateNanos, source.writeNanos, source.size, source.previousSize, source.written));
+            });
+            writer.write("},\n");
+
+            writer.write("  \"pruned\": [");
+            String separator = "\n";
+            for (String className : pruned)
+            {
+                writer.write(String.format("%s    \"%s\"", separator, className));
+                separator = ",\n";
+            }
+            writer.write(pruned.isEmpty() ? "]\n" : "\n  ]\n");
+            writer.write("}\n");
+        }
+    }
+
+    private static <V> void writeEntries(
+        Writer writer,
+        Iterator<Map.Entry<String, V>> entries,
+        ValueWriter<V> values) throws IOException
+    {
+        String separator = "\n";
+        while (entries.hasNext())
+        {
+            Map.Entry<String, V> entry = entries.next();
+            writer.write(separator);
+            writer.write(String.format("    \"%s\": ", entry.getKey()));
+            values.write(writer, entry);
+            separator = ",\n";
+        }
+        if (!"\n".equals(separator))
+        {
+            writer.write("\n  ");
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter<V>
+    {
+        void write(
+            Writer writer,
+            Map.Entry<String, V> entry) throws IOException;
+    }
+
+    private static final class Source
+    {
+        private final long generateNanos;
+        private final long writeNanos;
+        private final int size;
+        private final int previousSize;
+        private final boolean written;
+
+        private Source(
+            long generateNanos,
+            long writeNanos,
+            int size,
+            int previousSize,
+            boolean written)
+        {
+            this.generateNanos = generateNanos;
+            this.writeNanos = writeNanos;
+            this.size = size;
+            this.previousSize = previousSize;
+            this.written = written;
+        }
+    }
+
+    private static final class TypeCountVisitor extends AstNode.Visitor<Map<String, Integer>>
+    {
+        private final Map<String, Integer> counts;
+
+        private TypeCountVisitor(
+            Map<String, Integer> counts)
+        {
+            this.counts = counts;
+        }
+
+        @Override
+        public Map<String, Integer> visitStruct(
+            AstStructNode structNode)
+        {
+            counts.merge("struct", 1, Integer::sum);
+            return super.visitStruct(structNode);
+        }
+
+        @Override
+        public Map<String, Integer> visitUnion(
+            AstUnionNode unionNode)
+        {
+            counts.merge("union", 1, Integer::sum);
+            unionNode.cases().forEach(c -> visitMember(c.member()));
+            return defaultResult();
+        }
+
+        @Override
+        public Map<String, Integer> visitEnum(
+            AstEnumNode enumNode)
+        {
+            counts.merge("enum", 1, Integer::sum);
+            return defaultResult();
+        }
+
+        @Override
+        public Map<String, Integer> visitMember(
+            AstMemberNode memberNode)
+        {
+            memberNode.types().forEach(t -> counts.merge(MEMBER_PREFIX + t.name(), 1, Integer::sum));
+            return defaultResult();
+        }
+
+        @Override
+        protected Map<String, Integer> defaultResult()
+        {
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+final class Hashing
+{
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static String sha256(
+        byte[] bytes)
+    {
+        MessageDigest digest = newDigest();
+        return toHex(digest.digest(bytes));
+    }
+
+    static String sha256(
+        String... parts)
+    {
+        MessageDigest digest = newDigest();
+        for (String part : parts)
+        {
+            digest.update(part.getBytes(UTF_8));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String toHex(
+        byte[] bytes)
+    {
+        char[] hex = new char[bytes.length << 1];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            hex[i << 1] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            hex[(i << 1) + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    private Hashing()
+    {
+    }
+}
@@ -15,18 +15,29 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toSet;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -35,6 +46,7 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
@@ -53,6 +65,12 @@ class Parser
     private Consumer<String> warn = NO_OP;
     private Consumer<String> debug = NO_OP;
 
+    private final Map<String, String> resourceHashes = new LinkedHashMap<>();
+
+    private int threads = 1;
+    private AstCache cache;
+    private SessionCache sessionCache;
+
     Parser()
     {
 
@@ -76,60 +94,183 @@ class Parser
         return this;
     }
 
+    Parser threads(int threads)
+    {
+        this.threads = threads;
+        return this;
+    }
+
+    Parser sessionCache(SessionCache sessionCache)
+    {
+        this.sessionCache = sessionCache;
+        return this;
+    }
+
+    Parser cacheDirectory(File cacheDirectory)
+    {
+        this.cache = cacheDirectory != null ? new AstCache(cacheDirectory) : null;
+        return this;
+    }
+
     final List<AstSpecificationNode> parseAST(
         List<String> targetScopes, ClassLoader loader) throws IOException
     {
-        List<AstSpecificationNode> specifications = new LinkedList<>();
-        SortedSet<String> parsedResourceNames = new TreeSet<>();
-        Set<String> remainingScopes = new LinkedHashSet<>(targetScopes);
-        while (!remainingScopes.isEmpty())
+        resourceHashes.clear();
+
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        Executor executor = pool != null ? pool : Runnable::run;
+        Deque<CompletableFuture<ParsedResource>> pendingResources = new LinkedList<>();
+        try
         {
-            String remainingScope = remainingScopes.iterator().next();
-            remainingScopes.remove(remainingScope);
-            String resourceName = remainingScope.replaceAll("([^:]+).*", "$1.idl");
-            if (parsedResourceNames.add(resourceName))
+            List<AstSpecificationNode> specifications = new LinkedList<>();
+            SortedSet<String> parsedResourceNames = new TreeSet<>();
+            Consumer<String> parseScope = scope ->
             {
-                debug.accept("loading: " + resourceName);
+                String resourceName = scope.replaceAll("([^:]+).*", "$1.idl");
+                if (parsedResourceNames.add(resourceName))
+                {
+                    pendingResources.add(supplyAsync(() -> parseResource(resourceName, loader), executor));
+                }
+            };
+
+            targetScopes.forEach(parseScope);
+            while (!pendingResources.isEmpty())
+            {
+                ParsedResource parsed = awaitParsed(pendingResources.removeFirst());
+                resourceHashes.put(parsed.resourceName, parsed.contentHash);
+                if (parsed.specification != null)
+                {
+                    specifications.add(parsed.specification);
+                    parsed.referencedScopes.forEach(parseScope);
+                }
+            }
+            return specifications;
+        }
+        finally
+        {
+            pendingResources.forEach(f -> f.cancel(true));
+            if (pool != null)
+            {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    final Map<String, String> resourceHashes()
+    {
+        return resourceHashes;
+    }
+
+    private ParsedResource parseResource(
+        String resourceName,
+        ClassLoader loader)
+    {
+        debug.accept("loading: " + resourceName);
+
+        URL resource = loader.getResource(resourceName);
+        if (resource == null)
+        {
+            warn.accept(String.format("Resource %s not found", resourceName));
+            return new ParsedResource(resourceName, GeneratorManifest.MISSING_RESOURCE, null, emptySet());
+        }
+
+        try (InputStream input = resource.openStream())
+        {
+            byte[] content = input.readAllBytes();
+            String contentHash = Hashing.sha256(content);
+
+            AstSpecificationNode specification = sessionCache != null ? sessionCache.lookup(resource, contentHash) : null;
+            if (specification != null)
+            {
+                debug.accept("shared: " + resource);
+            }
+            else
+            {
+                specification = cache != null ? cache.lookup(resource, contentHash) : null;
+                if (specification != null)
+                {
+                    debug.accept("cached: " + resource);
+                }
+                else
+                {
+                    specification = parseSpecification(resourceName, content);
+                    if (cache != null)
+                    {
+                        storeCached(resource, contentHash, specification);
+                    }
+                }
 
-                URL resource = loader.getResource(resourceName);
-                if (resource == null)
+                if (sessionCache != null)
                 {
-                    warn.accept(String.format("Resource %s not found", resourceName));
-                    continue;
+                    specification = sessionCache.store(resource, contentHash, specification);
                 }
+            }
 
-                AstSpecificationNode specification = parseSpecification(resourceName, resource);
-                specifications.add(specification);
+            Set<String> referencedTypes = specification.accept(new ReferencedTypeResolver());
+            debug.accept("referenced types: " + referencedTypes);
 
-                Set<String> referencedTypes = specification.accept(new ReferencedTypeResolver());
-                debug.accept("referenced types: " + referencedTypes);
+            String regex = "((:?[^:]+(?:\\:\\:[^:]+)*)?)\\:\\:[^:]+";
+            Set<String> referencedScopes = referencedTypes.stream()
+                                                          .map(t -> t.replaceAll(regex, "$1"))
+                                                          .collect(toSet());
+            debug.accept("referenced scopes: " + referencedScopes);
 
-                String regex = "((:?[^:]+(?:\\:\\:[^:]+)*)?)\\:\\:[^:]+";
-                Set<String> referencedScopes = referencedTypes.stream()
-                                                              .map(t -> t.replaceAll(regex, "$1"))
-                                                              .collect(toSet());
-                debug.accept("referenced scopes: " + referencedScopes);
+            return new ParsedResource(resourceName, contentHash, specification, referencedScopes);
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+    }
 
-                remainingScopes.addAll(referencedScopes);
+    private void storeCached(
+        URL resource,
+        String contentHash,
+        AstSpecificationNode specification)
+    {
+        try
+        {
+            cache.store(resource, contentHash, specification);
+        }
+        catch (IOException ex)
+        {
+            warn.accept(String.format("Unable to cache %s: %s", resource, ex));
+        }
+    }
+
+    private static ParsedResource awaitParsed(
+        CompletableFuture<ParsedResource> future) throws IOException
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException ex)
+        {
+            Throwable cause = ex.getCause();
+            if (cause instanceof UncheckedIOException)
+            {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
             }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw ex;
         }
-        return specifications;
     }
 
     private AstSpecificationNode parseSpecification(
         String resourceName,
-        URL resource) throws IOException
+        byte[] content)
     {
-        try (InputStream input = resource.openStream())
+        try
         {
-            CharStream chars = CharStreams.fromStream(input);
-            NukleusLexer lexer = new NukleusLexer(chars);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            NukleusParser parser = new NukleusParser(tokens);
-            parser.setErrorHandler(new BailErrorStrategy());
-
-            SpecificationContext ctx = parser.specification();
-            return new AstParser().visitSpecification(ctx);
+            return parseSpecification(resourceName, new String(content, UTF_8), debug);
         }
         catch (ParseCancellationException ex)
         {
@@ -150,6 +291,55 @@ class Parser
         }
     }
 
+    static AstSpecificationNode parseSpecification(
+        String resourceName,
+        String content,
+        Consumer<String> debug)
+    {
+        CharStream chars = CharStreams.fromString(content);
+        NukleusLexer lexer = new NukleusLexer(chars);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        NukleusParser parser = new NukleusParser(tokens);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+
+        SpecificationContext ctx;
+        try
+        {
+            ctx = parser.specification();
+        }
+        catch (ParseCancellationException ex)
+        {
+            debug.accept("falling back to LL prediction: " + resourceName);
+            tokens.seek(0);
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            ctx = parser.specification();
+        }
+
+        return new AstParser().visitSpecification(ctx);
+    }
+
+    private static final class ParsedResource
+    {
+        private final String resourceName;
+        private final String contentHash;
+        private final AstSpecificationNode specification;
+        private final Set<String> referencedScopes;
+
+        private ParsedResource(
+            String resourceName,
+            String contentHash,
+            AstSpecificationNode specification,
+            Set<String> referencedScopes)
+        {
+            this.resourceName = resourceName;
+            this.contentHash = contentHash;
+            this.specification = specification;
+            this.referencedScopes = referencedScopes;
+        }
+    }
+
     private static final class ReferencedTypeResolver extends AstNode.Visitor<Set<String>>
     {
         private final Set<String> qualifiedNames = new HashSet<>();
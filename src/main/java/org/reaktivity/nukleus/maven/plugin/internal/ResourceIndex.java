@@ -0,0 +1,138 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+final class ResourceIndex extends ClassLoader
+{
+    static final String ARCHIVE_DIRECTORY = "META-INF/reaktivity/";
+
+    private static final String RESOURCE_SUFFIX = ".idl";
+
+    private final Map<String, URL> resources;
+    private final Consumer<String> warn;
+
+    ResourceIndex(
+        ClassLoader parent,
+        Consumer<String> warn)
+    {
+        super(parent);
+        this.resources = new HashMap<>();
+        this.warn = warn;
+    }
+
+    ResourceIndex directory(
+        File directory) throws IOException
+    {
+        Path root = directory.getAbsoluteFile().toPath();
+        if (Files.isDirectory(root))
+        {
+            try (Stream<Path> paths = Files.walk(root))
+            {
+                for (Path path : (Iterable<Path>) paths::iterator)
+                {
+                    String resourceName = root.relativize(path).toString().replace(File.separatorChar, '/');
+                    if (resourceName.endsWith(RESOURCE_SUFFIX) && Files.isRegularFile(path))
+                    {
+                        index(resourceName, path.toUri().toURL());
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    ResourceIndex archive(
+        File archive) throws IOException
+    {
+        File file = archive.getAbsoluteFile();
+        if (file.isFile())
+        {
+            URI archiveURI = file.toURI();
+            try (ZipFile zip = new ZipFile(file))
+            {
+                for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();)
+                {
+                    ZipEntry entry = entries.nextElement();
+                    String entryName = entry.getName();
+                    if (!entry.isDirectory() &&
+                        entryName.startsWith(ARCHIVE_DIRECTORY) &&
+                        entryName.endsWith(RESOURCE_SUFFIX))
+                    {
+                        String resourceName = entryName.substring(ARCHIVE_DIRECTORY.length());
+                        index(resourceName, URI.create(String.format("jar:%s!/%s", archiveURI, entryName)).toURL());
+                    }
+                }
+            }
+            catch (ZipException ex)
+            {
+                warn.accept(String.format("Unable to index %s: %s", file, ex.getMessage()));
+            }
+        }
+        return this;
+    }
+
+    int size()
+    {
+        return resources.size();
+    }
+
+    @Override
+    public URL getResource(
+        String name)
+    {
+        URL resource = resources.get(name);
+        return resource != null ? resource : super.getResource(name);
+    }
+
+    @Override
+    protected URL findResource(
+        String name)
+    {
+        return resources.get(name);
+    }
+
+    private void index(
+        String resourceName,
+        URL resource)
+    {
+        URL existing = resources.putIfAbsent(resourceName, resource);
+        if (existing != null)
+        {
+            warn.accept(String.format("Resource %s found in %s, ignoring duplicate in %s", resourceName, existing, resource));
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s%s", getClass().getSimpleName(), resources);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.SessionData;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeResolver;
+
+final class SessionCache
+{
+    private final ConcurrentMap<String, Versioned<AstSpecificationNode>> specifications;
+    private final ConcurrentMap<String, Versioned<TypeResolver>> resolvers;
+
+    SessionCache()
+    {
+        this.specifications = new ConcurrentHashMap<>();
+        this.resolvers = new ConcurrentHashMap<>();
+    }
+
+    AstSpecificationNode lookup(
+        URL resource,
+        String contentHash)
+    {
+        Versioned<AstSpecificationNode> entry = specifications.get(resource.toExternalForm());
+        return entry != null && entry.version.equals(contentHash) ? entry.value : null;
+    }
+
+    AstSpecificationNode store(
+        URL resource,
+        String contentHash,
+        AstSpecificationNode specification)
+    {
+        return specifications.compute(resource.toExternalForm(),
+            (k, v) -> v != null && v.version.equals(contentHash) ? v : new Versioned<>(contentHash, specification)).value;
+    }
+
+    TypeResolver resolver(
+        String key,
+        String version,
+        Supplier<TypeResolver> supplier)
+    {
+        Versioned<TypeResolver> entry = resolvers.get(key);
+        if (entry == null || !entry.version.equals(version))
+        {
+            TypeResolver newResolver = supplier.get();
+            entry = resolvers.compute(key,
+                (k, v) -> v != null && v.version.equals(version) ? v : new Versioned<>(version, newResolver));
+        }
+        return entry.value;
+    }
+
+    int size()
+    {
+        return specifications.size() + resolvers.size();
+    }
+
+    static SessionCache of(
+        MavenSession session)
+    {
+        if (session == null || session.getRepositorySession() == null)
+        {
+            return null;
+        }
+
+        SessionData data = session.getRepositorySession().getData();
+        SessionCache cache = (SessionCache) data.get(SessionCache.class);
+        while (cache == null)
+        {
+            SessionCache newCache = new SessionCache();
+            cache = data.set(SessionCache.class, null, newCache) ? newCache : (SessionCache) data.get(SessionCache.class);
+        }
+        return cache;
+    }
+
+    private static final class Versioned<T>
+    {
+        private final String version;
+        private final T value;
+
+        private Versioned(
+            String version,
+            T value)
+        {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -35,9 +35,21 @@ public final class TestGenerateMojo extends AbstractMojo
     @Parameter(defaultValue = "")
     protected String testPackageName;
 
+    @Parameter
+    protected String testRuntimePackageName;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-test-sources/reaktivity")
     protected File testOutputDirectory;
 
+    @Parameter(property = "reaktivity.benchmarks", defaultValue = "false")
+    protected boolean testBenchmarks;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/test-generate.manifest")
+    protected File testManifestFile;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/test-generate-report.json")
+    protected File testReportFile;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
@@ -54,15 +66,32 @@ public final class TestGenerateMojo extends AbstractMojo
     @Override
     protected void executeImpl() throws IOException
     {
+        project.addTestCompileSourceRoot(testOutputDirectory.getPath());
+
+        if (!hasResourceChanges())
+        {
+            getLog().debug("No IDL changes detected, skipping generation");
+            return;
+        }
+
         Generator generator = new Generator();
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
+        generator.info(getLog()::info);
         generator.warn(getLog()::warn);
+        generator.refresh(buildContext::refresh);
         generator.setPackageName(testPackageName);
+        generator.setRuntimePackageName(testRuntimePackageName);
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(testOutputDirectory);
         generator.setScopeNames(scopeNames);
+        generator.setBenchmarks(testBenchmarks);
+        generator.setLazyWrap(lazyWrap);
+        generator.setThreads(threads);
+        generator.setCacheDirectory(cacheDirectory);
+        generator.setSessionCache(SessionCache.of(session));
+        generator.setManifestFile(testManifestFile);
+        generator.setReportFile(testReportFile);
         generator.generate(createLoader());
-        project.addTestCompileSourceRoot(testOutputDirectory.getPath());
     }
 }
@@ -0,0 +1,292 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode.NULL_DEFAULT;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstCaseNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstValueNode;
+
+final class TypeFingerprints
+{
+    private final String stamp;
+    private final Map<String, AstNode> typesByName;
+    private final Map<String, String> fingerprintsByName;
+    private final Map<String, Integer> indicesByName;
+    private final Deque<String> visiting;
+
+    TypeFingerprints(
+        String stamp,
+        List<AstSpecificationNode> specifications)
+    {
+        this.stamp = stamp;
+        this.typesByName = new HashMap<>();
+        this.fingerprintsByName = new HashMap<>();
+        this.indicesByName = new HashMap<>();
+        this.visiting = new LinkedList<>();
+
+        NamedTypeVisitor visitor = new NamedTypeVisitor(typesByName);
+        specifications.forEach(s -> s.accept(visitor));
+    }
+
+    void forEach(
+        BiConsumer<String, AstNode> action)
+    {
+        typesByName.forEach(action);
+    }
+
+    boolean contains(
+        String qualifiedName)
+    {
+        return typesByName.containsKey(qualifiedName);
+    }
+
+    Set<String> reachable(
+        Collection<String> roots)
+    {
+        Set<String> reachable = new HashSet<>();
+        Deque<String> pending = new LinkedList<>(roots);
+        while (!pending.isEmpty())
+        {
+            String qualifiedName = pending.removeFirst();
+            AstNode node = typesByName.get(qualifiedName);
+            if (node != null && reachable.add(qualifiedName))
+            {
+                Set<String> references = new HashSet<>();
+                canonical(node, new StringBuilder(), references);
+                pending.addAll(references);
+            }
+        }
+        return reachable;
+    }
+
+    String fingerprint(
+        String qualifiedName)
+    {
+        if (!typesByName.containsKey(qualifiedName))
+        {
+            return qualifiedName;
+        }
+
+        if (!fingerprintsByName.containsKey(qualifiedName))
+        {
+            connect(qualifiedName);
+        }
+        return fingerprintsByName.get(qualifiedName);
+    }
+
+    // Tarjan's algorithm; every type in a reference cycle shares the canonical form of the whole cycle
+    private int connect(
+        String qualifiedName)
+    {
+        int index = indicesByName.size();
+        indicesByName.put(qualifiedName, index);
+        visiting.addLast(qualifiedName);
+
+        int lowlink = index;
+        for (String reference : references(qualifiedName))
+        {
+            if (typesByName.containsKey(reference) && !fingerprintsByName.containsKey(reference))
+            {
+                Integer referenceIndex = indicesByName.get(reference);
+                lowlink = Math.min(lowlink, referenceIndex != null ? referenceIndex : connect(reference));
+            }
+        }
+
+        if (lowlink == index)
+        {
+            Set<String> component = new TreeSet<>();
+            String member;
+            do
+            {
+                member = visiting.removeLast();
+                component.add(member);
+            }
+            while (!member.equals(qualifiedName));
+
+            StringBuilder canonical = new StringBuilder();
+            for (String name : component)
+            {
+                canonical.append(' ').append(name);
+                Set<String> references = new TreeSet<>();
+                canonical(typesByName.get(name), canonical, references);
+                references.stream()
+                          .filter(r -> !component.contains(r))
+                          .map(this::fingerprint)
+                          .forEach(f -> canonical.append(';').append(f));
+            }
+
+            for (String name : component)
+            {
+                fingerprintsByName.put(name, Hashing.sha256(stamp, name + canonical));
+            }
+        }
+
+        return lowlink;
+    }
+
+    private Set<String> references(
+        String qualifiedName)
+    {
+        Set<String> references = new TreeSet<>();
+        canonical(typesByName.get(qualifiedName), new StringBuilder(), references);
+        return references;
+    }
+
+    private void canonical(
+        AstNode node,
+        StringBuilder canonical,
+        Set<String> references)
+    {
+        if (node instanceof AstStructNode)
+        {
+            AstStructNode structNode = (AstStructNode) node;
+            String supertype = structNode.supertype();
+            canonical.append(" struct ").append(structNode.typeId()).append(' ').append(supertype);
+            if (supertype != null)
+            {
+                references.add(supertype);
+            }
+            structNode.members().forEach(m -> canonical(m, canonical, references));
+        }
+        else if (node instanceof AstUnionNode)
+        {
+            AstUnionNode unionNode = (AstUnionNode) node;
+            canonical.append(" union");
+            for (AstCaseNode caseNode : unionNode.cases())
+            {
+                canonical.append(" case ").append(caseNode.value());
+                canonical(caseNode.member(), canonical, references);
+            }
+        }
+        else if (node instanceof AstEnumNode)
+        {
+            AstEnumNode enumNode = (AstEnumNode) node;
+            canonical.append(" enum");
+            for (AstValueNode valueNode : enumNode.values())
+            {
+                canonical.append(' ').append(valueNode.name()).append('=').append(valueNode.size());
+            }
+        }
+    }
+
+    private void canonical(
+        AstMemberNode memberNode,
+        StringBuilder canonical,
+        Set<String> references)
+    {
+        Object defaultValue = memberNode.defaultValue();
+        canonical.append(" member ").append(memberNode.name())
+                 .append(' ').append(memberNode.types())
+                 .append(' ').append(memberNode.unsignedType())
+                 .append(' ').append(memberNode.size())
+                 .append(' ').append(memberNode.sizeName())
+                 .append(' ').append(memberNode.isArray())
+                 .append(' ').append(defaultValue == NULL_DEFAULT ? "null" : String.valueOf(defaultValue))
+                 .append(' ').append(memberNode.byteOrder());
+
+        for (AstType type : memberNode.types())
+        {
+            if (typesByName.containsKey(type.name()))
+            {
+                references.add(type.name());
+            }
+        }
+    }
+
+    private static final class NamedTypeVisitor extends AstNode.Visitor<Map<String, AstNode>>
+    {
+        private final Map<String, AstNode> typesByName;
+        private final Deque<String> nestedNames;
+
+        private NamedTypeVisitor(
+            Map<String, AstNode> typesByName)
+        {
+            this.typesByName = typesByName;
+            this.nestedNames = new LinkedList<>();
+        }
+
+        @Override
+        public Map<String, AstNode> visitScope(
+            AstScopeNode scopeNode)
+        {
+            try
+            {
+                nestedNames.addLast(scopeNode.name());
+                return super.visitScope(scopeNode);
+            }
+            finally
+            {
+                nestedNames.removeLast();
+            }
+        }
+
+        @Override
+        public Map<String, AstNode> visitStruct(
+            AstStructNode structNode)
+        {
+            return visitNamedType(structNode, structNode.name());
+        }
+
+        @Override
+        public Map<String, AstNode> visitUnion(
+            AstUnionNode unionNode)
+        {
+            return visitNamedType(unionNode, unionNode.name());
+        }
+
+        @Override
+        public Map<String, AstNode> visitEnum(
+            AstEnumNode enumNode)
+        {
+            return visitNamedType(enumNode, enumNode.name());
+        }
+
+        private Map<String, AstNode> visitNamedType(
+            AstNode node,
+            String name)
+        {
+            String qualifiedName = String.join("::", nestedNames) + "::" + name;
+            typesByName.put(qualifiedName, node);
+            return defaultResult();
+        }
+
+        @Override
+        protected Map<String, AstNode> defaultResult()
+        {
+            return typesByName;
+        }
+    }
+}
@@ -15,14 +15,15 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
-import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_RESOURCES;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.stream.Stream;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -37,6 +38,11 @@ public final class ValidateMojo extends AbstractMojo
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
+        if (scopeNames.trim().isEmpty())
+        {
+            throw new MojoFailureException("Validate requires at least one scope in scopeNames");
+        }
+
         try
         {
             executeImpl();
@@ -49,7 +55,9 @@ public final class ValidateMojo extends AbstractMojo
 
     protected void executeImpl() throws IOException
     {
-        List<String> targetScopes = unmodifiableList(asList(scopeNames.split("\\s+")));
+        List<String> targetScopes = unmodifiableList(Stream.of(scopeNames.split("\\s+"))
+                                                           .filter(s -> !s.isEmpty())
+                                                           .collect(toList()));
         parseAST(targetScopes);
     }
 }
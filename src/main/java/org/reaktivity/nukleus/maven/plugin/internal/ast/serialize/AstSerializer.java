@@ -0,0 +1,356 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.ast.serialize;
+
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode.NULL_DEFAULT;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstCaseNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstValueNode;
+
+public final class AstSerializer
+{
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x4e4b4153;
+
+    private static final int DEFAULT_NONE = 0;
+    private static final int DEFAULT_VALUE = 1;
+    private static final int DEFAULT_NULL = 2;
+
+    private static final Map<String, AstType> BUILTIN_TYPES = initBuiltinTypes();
+
+    public void serialize(
+        AstSpecificationNode specification,
+        DataOutput out) throws IOException
+    {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeScope(specification.scope(), out);
+    }
+
+    public AstSpecificationNode deserialize(
+        DataInput in) throws IOException
+    {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+        {
+            throw new IOException("Unrecognized serialized specification format");
+        }
+
+        return new AstSpecificationNode.Builder()
+                .scope(readScope(in))
+                .build();
+    }
+
+    private void writeScope(
+        AstScopeNode scopeNode,
+        DataOutput out) throws IOException
+    {
+        out.writeInt(scopeNode.depth());
+        out.writeUTF(scopeNode.name());
+
+        List<AstEnumNode> enums = scopeNode.enums();
+        out.writeInt(enums.size());
+        for (AstEnumNode enumNode : enums)
+        {
+            writeEnum(enumNode, out);
+        }
+
+        List<AstStructNode> structs = scopeNode.structs();
+        out.writeInt(structs.size());
+        for (AstStructNode structNode : structs)
+        {
+            writeStruct(structNode, out);
+        }
+
+        List<AstUnionNode> unions = scopeNode.unions();
+        out.writeInt(unions.size());
+        for (AstUnionNode unionNode : unions)
+        {
+            writeUnion(unionNode, out);
+        }
+
+        List<AstScopeNode> scopes = scopeNode.scopes();
+        out.writeInt(scopes.size());
+        for (AstScopeNode nestedNode : scopes)
+        {
+            writeScope(nestedNode, out);
+        }
+    }
+
+    private AstScopeNode readScope(
+        DataInput in) throws IOException
+    {
+        AstScopeNode.Builder scopeBuilder = new AstScopeNode.Builder()
+                .depth(in.readInt())
+                .name(in.readUTF());
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            scopeBuilder.enumeration(readEnum(in));
+        }
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            scopeBuilder.struct(readStruct(in));
+        }
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            scopeBuilder.union(readUnion(in));
+        }
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            scopeBuilder.scope(readScope(in));
+        }
+
+        return scopeBuilder.build();
+    }
+
+    private void writeEnum(
+        AstEnumNode enumNode,
+        DataOutput out) throws IOException
+    {
+        out.writeUTF(enumNode.name());
+
+        List<AstValueNode> values = enumNode.values();
+        out.writeInt(values.size());
+        for (AstValueNode valueNode : values)
+        {
+            out.writeUTF(valueNode.name());
+            out.writeInt(valueNode.size());
+        }
+    }
+
+    private AstEnumNode readEnum(
+        DataInput in) throws IOException
+    {
+        AstEnumNode.Builder enumBuilder = new AstEnumNode.Builder()
+                .name(in.readUTF());
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            enumBuilder.value(new AstValueNode.Builder()
+                    .name(in.readUTF())
+                    .ordinal(in.readInt())
+                    .build());
+        }
+
+        return enumBuilder.build();
+    }
+
+    private void writeStruct(
+        AstStructNode structNode,
+        DataOutput out) throws IOException
+    {
+        out.writeUTF(structNode.name());
+        out.writeInt(structNode.typeId());
+        writeNullableUTF(structNode.supertype(), out);
+
+        List<AstMemberNode> members = structNode.members();
+        out.writeInt(members.size());
+        for (AstMemberNode memberNode : members)
+        {
+            writeMember(memberNode, out);
+        }
+    }
+
+    private AstStructNode readStruct(
+        DataInput in) throws IOException
+    {
+        AstStructNode.Builder structBuilder = new AstStructNode.Builder()
+                .name(in.readUTF())
+                .typeId(in.readInt())
+                .supertype(readNullableUTF(in));
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            structBuilder.member(readMember(in));
+        }
+
+        return structBuilder.build();
+    }
+
+    private void writeUnion(
+        AstUnionNode unionNode,
+        DataOutput out) throws IOException
+    {
+        out.writeUTF(unionNode.name());
+
+        List<AstCaseNode> cases = unionNode.cases();
+        out.writeInt(cases.size());
+        for (AstCaseNode caseNode : cases)
+        {
+            out.writeInt(caseNode.value());
+            writeMember(caseNode.member(), out);
+        }
+    }
+
+    private AstUnionNode readUnion(
+        DataInput in) throws IOException
+    {
+        AstUnionNode.Builder unionBuilder = new AstUnionNode.Builder()
+                .name(in.readUTF());
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            unionBuilder.caseN(new AstCaseNode.Builder()
+                    .value(in.readInt())
+                    .member(readMember(in))
+                    .build());
+        }
+
+        return unionBuilder.build();
+    }
+
+    private void writeMember(
+        AstMemberNode memberNode,
+        DataOutput out) throws IOException
+    {
+        out.writeUTF(memberNode.name());
+
+        List<AstType> types = memberNode.types();
+        out.writeInt(types.size());
+        for (AstType type : types)
+        {
+            out.writeUTF(type.name());
+        }
+
+        out.writeInt(memberNode.size());
+        writeNullableUTF(memberNode.sizeName(), out);
+        out.writeBoolean(memberNode.isArray());
+        writeNullableUTF(memberNode.unsignedType() != null ? memberNode.unsignedType().name() : null, out);
+
+        Object defaultValue = memberNode.defaultValue();
+        if (defaultValue == null)
+        {
+            out.writeByte(DEFAULT_NONE);
+        }
+        else if (defaultValue == NULL_DEFAULT)
+        {
+            out.writeByte(DEFAULT_NULL);
+        }
+        else
+        {
+            out.writeByte(DEFAULT_VALUE);
+            out.writeInt((Integer) defaultValue);
+        }
+
+        AstByteOrder byteOrder = memberNode.byteOrder();
+        out.writeByte(byteOrder != null ? byteOrder.ordinal() : -1);
+    }
+
+    private AstMemberNode readMember(
+        DataInput in) throws IOException
+    {
+        AstMemberNode.Builder memberBuilder = new AstMemberNode.Builder()
+                .name(in.readUTF());
+
+        for (int count = in.readInt(); count > 0; count--)
+        {
+            memberBuilder.type(readType(in.readUTF()));
+        }
+
+        int size = in.readInt();
+        if (size != -1)
+        {
+            memberBuilder.size(size);
+        }
+
+        String sizeName = readNullableUTF(in);
+        if (sizeName != null)
+        {
+            memberBuilder.sizeName(sizeName);
+        }
+
+        memberBuilder.isArray(in.readBoolean());
+
+        String unsignedType = readNullableUTF(in);
+        if (unsignedType != null)
+        {
+            memberBuilder.unsignedType(readType(unsignedType));
+        }
+
+        switch (in.readByte())
+        {
+            case DEFAULT_VALUE:
+                memberBuilder.defaultValue(in.readInt());
+                break;
+            case DEFAULT_NULL:
+                memberBuilder.defaultToNull();
+                break;
+            default:
+                break;
+        }
+
+        byte byteOrder = in.readByte();
+        memberBuilder.byteOrder(byteOrder != -1 ? AstByteOrder.values()[byteOrder] : null);
+
+        return memberBuilder.build();
+    }
+
+    private static void writeNullableUTF(
+        String value,
+        DataOutput out) throws IOException
+    {
+        out.writeBoolean(value != null);
+        if (value != null)
+        {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(
+        DataInput in) throws IOException
+    {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static AstType readType(
+        String name)
+    {
+        AstType type = BUILTIN_TYPES.get(name);
+        return type != null ? type : AstType.dynamicType(name);
+    }
+
+    private static Map<String, AstType> initBuiltinTypes()
+    {
+        Map<String, AstType> builtinTypes = new HashMap<>();
+        Stream.of(AstType.INT8, AstType.INT16, AstType.INT32, AstType.INT64,
+                  AstType.VARINT32, AstType.VARINT64,
+                  AstType.UINT8, AstType.UINT16, AstType.UINT32, AstType.UINT64,
+                  AstType.OCTETS, AstType.STRING, AstType.STRING16,
+                  AstType.LIST, AstType.ARRAY, AstType.STRUCT)
+              .forEach(t -> builtinTypes.put(t.name(), t));
+        return builtinTypes;
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.ast.visit;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+import java.util.Collection;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstCaseNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.BenchmarkGenerator;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeResolver;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeSpecGenerator;
+
+public final class BenchmarkVisitor extends AstNode.Visitor<Collection<TypeSpecGenerator<?>>>
+{
+    private final BenchmarkGenerator generator;
+    private final TypeResolver resolver;
+
+    public BenchmarkVisitor(
+        BenchmarkGenerator generator,
+        TypeResolver resolver)
+    {
+        this.generator = generator;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public Collection<TypeSpecGenerator<?>> visitStruct(
+        AstStructNode structNode)
+    {
+        String supertype = structNode.supertype();
+        if (supertype != null)
+        {
+            AstStructNode superNode = resolver.resolve(supertype);
+            visitStruct(superNode);
+        }
+
+        super.visitStruct(structNode);
+        return defaultResult();
+    }
+
+    @Override
+    public Collection<TypeSpecGenerator<?>> visitEnum(
+        AstEnumNode enumNode)
+    {
+        return defaultResult();
+    }
+
+    @Override
+    public Collection<TypeSpecGenerator<?>> visitUnion(
+        AstUnionNode unionNode)
+    {
+        super.visitUnion(unionNode);
+        return defaultResult();
+    }
+
+    @Override
+    public Collection<TypeSpecGenerator<?>> visitMember(
+        AstMemberNode memberNode)
+    {
+        generator.addMember(memberNode, nestedGenerator(memberNode));
+        return defaultResult();
+    }
+
+    @Override
+    public Collection<TypeSpecGenerator<?>> visitCase(
+        AstCaseNode caseNode)
+    {
+        AstMemberNode memberNode = caseNode.member();
+        generator.addCase(memberNode, nestedGenerator(memberNode));
+        return defaultResult();
+    }
+
+    @Override
+    protected Collection<TypeSpecGenerator<?>> defaultResult()
+    {
+        return generator.isSupported() ? singleton(generator) : emptySet();
+    }
+
+    private BenchmarkGenerator nestedGenerator(
+        AstMemberNode memberNode)
+    {
+        AstType memberType = memberNode.type();
+        if (memberNode.isArray() || !resolver.isStruct(memberType.name()))
+        {
+            return null;
+        }
+
+        BenchmarkGenerator nested = generator.nestedGenerator(resolver.resolveClass(memberType));
+        new BenchmarkVisitor(nested, resolver).visitStruct(resolver.resolve(memberType.name()));
+        return nested;
+    }
+}
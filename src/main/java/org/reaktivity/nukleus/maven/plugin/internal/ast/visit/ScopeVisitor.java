@@ -20,6 +20,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
@@ -27,6 +28,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.BenchmarkGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.EnumFlyweightGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.EnumTypeGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.StructFlyweightGenerator;
@@ -42,6 +44,9 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
     private final String packageName;
     private final TypeResolver resolver;
     private final List<String> targetScopes;
+    private final Consumer<TypeSpecGenerator<?>> sink;
+    private final boolean benchmarks;
+    private final boolean lazyWrap;
     private final Collection<TypeSpecGenerator<?>> defaultResult;
 
     public ScopeVisitor(
@@ -49,11 +54,36 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String packageName,
         TypeResolver resolver,
         List<String> targetScopes)
+    {
+        this(scopeName, packageName, resolver, targetScopes, null);
+    }
+
+    public ScopeVisitor(
+        String scopeName,
+        String packageName,
+        TypeResolver resolver,
+        List<String> targetScopes,
+        Consumer<TypeSpecGenerator<?>> sink)
+    {
+        this(scopeName, packageName, resolver, targetScopes, sink, false, false);
+    }
+
+    public ScopeVisitor(
+        String scopeName,
+        String packageName,
+        TypeResolver resolver,
+        List<String> targetScopes,
+        Consumer<TypeSpecGenerator<?>> sink,
+        boolean benchmarks,
+        boolean lazyWrap)
     {
         this.scopeName = requireNonNull(scopeName);
         this.packageName = requireNonNull(packageName);
         this.resolver = requireNonNull(resolver);
         this.targetScopes = requireNonNull(targetScopes);
+        this.sink = sink;
+        this.benchmarks = benchmarks;
+        this.lazyWrap = lazyWrap;
         this.defaultResult = new LinkedList<>();
     }
 
@@ -76,7 +106,8 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String nestedName = scopeNode.name();
         String subscopeName = String.format("%s::%s", scopeName, nestedName);
         String subpackageName = String.format("%s.%s", packageName, nestedName);
-        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes).visitScope(scopeNode);
+        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes, sink, benchmarks, lazyWrap)
+                .visitScope(scopeNode);
     }
 
     @Override
@@ -91,10 +122,11 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String baseName = structNode.name();
         AstType structType = AstType.dynamicType(String.format("%s::%s", scopeName, baseName));
         ClassName structName = resolver.resolveClass(structType);
-        StructFlyweightGenerator generator = new StructFlyweightGenerator(structName, resolver.flyweightName(), baseName);
+        StructFlyweightGenerator generator =
+                new StructFlyweightGenerator(structName, resolver.flyweightName(), baseName, lazyWrap);
         generator.typeId(findTypeId(structNode));
 
-        return new StructVisitor(generator, resolver).visitStruct(structNode);
+        return emit(withBenchmark(new StructVisitor(generator, resolver).visitStruct(structNode), structName, structNode));
     }
 
     @Override
@@ -111,7 +143,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         ClassName unionName = resolver.resolveClass(unionType);
         UnionFlyweightGenerator generator = new UnionFlyweightGenerator(unionName, resolver.flyweightName(), baseName);
 
-        return new UnionVisitor(generator, resolver).visitUnion(unionNode);
+        return emit(withBenchmark(new UnionVisitor(generator, resolver).visitUnion(unionNode), unionName, unionNode));
     }
 
     @Override
@@ -132,7 +164,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         EnumFlyweightGenerator flyweightGenerator =
                 new EnumFlyweightGenerator(enumFlyweightName, resolver.flyweightName(), enumTypeName);
 
-        return new EnumVisitor(typeGenerator, flyweightGenerator).visitEnum(enumNode);
+        return emit(new EnumVisitor(typeGenerator, flyweightGenerator).visitEnum(enumNode));
     }
 
     @Override
@@ -153,6 +185,36 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         return aggregate;
     }
 
+    private Collection<TypeSpecGenerator<?>> emit(
+        Collection<TypeSpecGenerator<?>> generators)
+    {
+        if (sink == null)
+        {
+            return generators;
+        }
+
+        generators.forEach(sink);
+        return defaultResult();
+    }
+
+    private Collection<TypeSpecGenerator<?>> withBenchmark(
+        Collection<TypeSpecGenerator<?>> generators,
+        ClassName flyweightName,
+        AstNode node)
+    {
+        if (!benchmarks)
+        {
+            return generators;
+        }
+
+        ClassName benchmarkName = flyweightName.peerClass(flyweightName.simpleName() + "BM");
+        BenchmarkGenerator benchmark = new BenchmarkGenerator(benchmarkName, flyweightName);
+
+        Collection<TypeSpecGenerator<?>> result = new LinkedList<>(generators);
+        result.addAll(node.accept(new BenchmarkVisitor(benchmark, resolver)));
+        return result;
+    }
+
     private boolean shouldVisit(
         String target)
     {
@@ -77,11 +77,12 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
                 .addMethod(limitMethod())
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
+                .addMethod(wrapUncheckedMethod())
                 .addMethod(forEachMethod())
                 .addMethod(anyMatchMethod())
                 .addMethod(matchFirstMethod())
                 .addMethod(isEmptyMethod())
-                .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addMethod(length0Method())
                 .addType(builderClassBuilder.build())
                 .build();
@@ -183,6 +184,20 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
                 .build();
     }
 
+    private MethodSpec wrapUncheckedMethod()
+    {
+        return methodBuilder("wrapUnchecked")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("super.wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("return this")
+                .build();
+    }
+
     private MethodSpec forEachMethod()
     {
         ClassName consumerRawType = ClassName.get(Consumer.class);
@@ -250,13 +265,14 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
               .build();
     }
 
-    private MethodSpec toStringMethod()
+    private MethodSpec appendToMethod()
     {
-        return methodBuilder("toString")
+        return methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class)
-                .addStatement("return String.format($S, length0())", "ARRAY containing %d bytes of data")
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append($S).append(length0()).append($S)", "ARRAY containing ", " bytes of data")
                 .build();
     }
 
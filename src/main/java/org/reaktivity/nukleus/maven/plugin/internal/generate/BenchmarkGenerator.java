@@ -0,0 +1,476 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generate;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.StructFlyweightGenerator.initCap;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.StructFlyweightGenerator.methodName;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.TypeSpec;
+
+public final class BenchmarkGenerator extends ClassSpecGenerator
+{
+    private static final String JMH_ANNOTATIONS_PACKAGE = "org.openjdk.jmh.annotations";
+
+    private static final ClassName BENCHMARK_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Benchmark");
+    private static final ClassName BENCHMARK_MODE_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "BenchmarkMode");
+    private static final ClassName FORK_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Fork");
+    private static final ClassName MEASUREMENT_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Measurement");
+    private static final ClassName MODE_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Mode");
+    private static final ClassName OUTPUT_TIME_UNIT_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "OutputTimeUnit");
+    private static final ClassName SCOPE_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Scope");
+    private static final ClassName STATE_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "State");
+    private static final ClassName WARMUP_TYPE = ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Warmup");
+    private static final ClassName BLACKHOLE_TYPE = ClassName.get("org.openjdk.jmh.infra", "Blackhole");
+
+    private static final int CAPACITY = 65536;
+    private static final int VALUES_CAPACITY = 1024;
+    private static final int MAX_LENGTH = 32;
+    private static final int MAX_ITEMS = 4;
+    private static final int MAX_VARINT_SIZE = 8;
+
+    private final ClassName flyweightName;
+    private final Random random;
+    private final int depth;
+    private final List<CodeBlock> mutations;
+    private final List<String> reads;
+    private final Map<String, Integer> sizes;
+    private final List<String> unsupported;
+
+    private boolean union;
+    private String caseName;
+
+    public BenchmarkGenerator(
+        ClassName benchmarkName,
+        ClassName flyweightName)
+    {
+        this(benchmarkName, flyweightName, new Random(benchmarkName.toString().hashCode()), 0);
+    }
+
+    private BenchmarkGenerator(
+        ClassName benchmarkName,
+        ClassName flyweightName,
+        Random random,
+        int depth)
+    {
+        super(benchmarkName);
+        this.flyweightName = flyweightName;
+        this.random = random;
+        this.depth = depth;
+        this.mutations = new LinkedList<>();
+        this.reads = new LinkedList<>();
+        this.sizes = new HashMap<>();
+        this.unsupported = new LinkedList<>();
+    }
+
+    public BenchmarkGenerator nestedGenerator(
+        ClassName nestedFlyweightName)
+    {
+        return new BenchmarkGenerator(thisName, nestedFlyweightName, random, depth + 1);
+    }
+
+    public BenchmarkGenerator addMember(
+        AstMemberNode member,
+        BenchmarkGenerator nested)
+    {
+        AstType type = member.type();
+        reads.add(methodName(member.name()));
+
+        if (!member.usedAsSize() || type == AstType.VARINT32 || type == AstType.VARINT64)
+        {
+            CodeBlock mutation = nested != null ? nestedMutation(member, nested) : memberMutation(member);
+            if (mutation != null)
+            {
+                mutations.add(mutation);
+            }
+            else
+            {
+                unsupported.add(member.name());
+            }
+        }
+
+        return this;
+    }
+
+    public BenchmarkGenerator addCase(
+        AstMemberNode member,
+        BenchmarkGenerator nested)
+    {
+        union = true;
+
+        if (caseName == null)
+        {
+            CodeBlock mutation = nested != null ? nestedMutation(member, nested) : caseMutation(member);
+            if (mutation != null)
+            {
+                caseName = member.name();
+                mutations.add(mutation);
+                reads.add("kind");
+                reads.add(caseName);
+            }
+        }
+
+        return this;
+    }
+
+    public BenchmarkGenerator addUnsupported(
+        String memberName)
+    {
+        unsupported.add(memberName);
+        return this;
+    }
+
+    public boolean isSupported()
+    {
+        return unsupported.isEmpty() && (!union || caseName != null);
+    }
+
+    @Override
+    public TypeSpec generate()
+    {
+        String builderName = "flyweightRW";
+        String readerName = "flyweightRO";
+        ClassName builderType = flyweightName.nestedClass("Builder");
+
+        return classBuilder(thisName)
+                .addModifiers(PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(STATE_TYPE).addMember("value", "$T.Benchmark", SCOPE_TYPE).build())
+                .addAnnotation(AnnotationSpec.builder(BENCHMARK_MODE_TYPE).addMember("value", "$T.Throughput", MODE_TYPE).build())
+                .addAnnotation(AnnotationSpec.builder(FORK_TYPE).addMember("value", "3").build())
+                .addAnnotation(AnnotationSpec.builder(WARMUP_TYPE)
+                        .addMember("iterations", "5")
+                        .addMember("time", "1")
+                        .addMember("timeUnit", "$T.SECONDS", TimeUnit.class)
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(MEASUREMENT_TYPE)
+                        .addMember("iterations", "3")
+                        .addMember("time", "3")
+                        .addMember("timeUnit", "$T.SECONDS", TimeUnit.class)
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(OUTPUT_TIME_UNIT_TYPE)
+                        .addMember("value", "$T.SECONDS", TimeUnit.class)
+                        .build())
+                .addField(FieldSpec.builder(int.class, "CAPACITY", PRIVATE, STATIC, FINAL)
+                        .initializer("$L", CAPACITY)
+                        .build())
+                .addField(FieldSpec.builder(DIRECT_BUFFER_TYPE, "VALUES", PRIVATE, STATIC, FINAL)
+                        .initializer("values()")
+                        .build())
+                .addField(FieldSpec.builder(MUTABLE_DIRECT_BUFFER_TYPE, "buffer", PRIVATE, FINAL)
+                        .initializer("new $T(new byte[CAPACITY])", UNSAFE_BUFFER_TYPE)
+                        .build())
+                .addField(FieldSpec.builder(MUTABLE_DIRECT_BUFFER_TYPE, "encoded", PRIVATE, FINAL)
+                        .initializer("new $T(new byte[CAPACITY])", UNSAFE_BUFFER_TYPE)
+                        .build())
+                .addField(FieldSpec.builder(builderType, builderName, PRIVATE, FINAL)
+                        .initializer("new $T()", builderType)
+                        .build())
+                .addField(FieldSpec.builder(flyweightName, readerName, PRIVATE, FINAL)
+                        .initializer("new $T()", flyweightName)
+                        .build())
+                .addField(int.class, "limit", PRIVATE)
+                .addMethod(methodBuilder("init")
+                        .addAnnotation(ClassName.get(JMH_ANNOTATIONS_PACKAGE, "Setup"))
+                        .addModifiers(PUBLIC)
+                        .addStatement("limit = encode(encoded)")
+                        .build())
+                .addMethod(methodBuilder("build")
+                        .addAnnotation(BENCHMARK_TYPE)
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return encode(buffer)")
+                        .build())
+                .addMethod(methodBuilder("wrap")
+                        .addAnnotation(BENCHMARK_TYPE)
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return $L.wrap(encoded, 0, limit).limit()", readerName)
+                        .build())
+                .addMethod(methodBuilder("read")
+                        .addAnnotation(BENCHMARK_TYPE)
+                        .addModifiers(PUBLIC)
+                        .addParameter(BLACKHOLE_TYPE, "blackhole")
+                        .addStatement("final $T flyweight = $L.wrap(encoded, 0, limit)", flyweightName, readerName)
+                        .addCode(readsCode())
+                        .build())
+                .addMethod(methodBuilder("encode")
+                        .addModifiers(PRIVATE)
+                        .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                        .returns(int.class)
+                        .addStatement("return $L.wrap(buffer, 0, buffer.capacity())$>$>\n$L.build()\n.limit()$<$<",
+                                builderName, mutationsCode("\n"))
+                        .build())
+                .addMethod(methodBuilder("values")
+                        .addModifiers(PRIVATE, STATIC)
+                        .returns(DIRECT_BUFFER_TYPE)
+                        .addStatement("final $T values = new $T(new byte[$L])",
+                                MUTABLE_DIRECT_BUFFER_TYPE, UNSAFE_BUFFER_TYPE, VALUES_CAPACITY)
+                        .beginControlFlow("for (int i = 0; i < values.capacity(); i++)")
+                        .addStatement("values.putByte(i, (byte) ('a' + i % 26))")
+                        .endControlFlow()
+                        .addStatement("return values")
+                        .build())
+                .build();
+    }
+
+    private CodeBlock readsCode()
+    {
+        CodeBlock.Builder code = CodeBlock.builder();
+        reads.forEach(r -> code.addStatement("blackhole.consume(flyweight.$L())", r));
+        return code.build();
+    }
+
+    private CodeBlock mutationsCode(
+        String separator)
+    {
+        CodeBlock.Builder code = CodeBlock.builder();
+        mutations.forEach(m -> code.add("$L$L", m, separator));
+        return code.build();
+    }
+
+    private CodeBlock nestedMutation(
+        AstMemberNode member,
+        BenchmarkGenerator nested)
+    {
+        if (!nested.isSupported())
+        {
+            return null;
+        }
+
+        String lambda = "n" + depth;
+        return CodeBlock.of(".$L($L -> $L$L)", methodName(member.name()), lambda, lambda, nested.mutationsCode(""));
+    }
+
+    private CodeBlock memberMutation(
+        AstMemberNode member)
+    {
+        String name = member.name();
+        String method = methodName(name);
+        AstType type = member.type();
+        CodeBlock mutation = null;
+
+        if (type == AstType.LIST)
+        {
+            AstType itemType = member.types().get(1);
+            if (itemType == AstType.STRING || itemType == AstType.STRING16)
+            {
+                String lambda = "i" + depth;
+                CodeBlock.Builder code = CodeBlock.builder();
+                for (int count = 1 + random.nextInt(MAX_ITEMS); count > 0; count--)
+                {
+                    code.add(".$LItem($L -> $L.set(VALUES, $L, $L))", name, lambda, lambda, nextOffset(), nextLength());
+                }
+                mutation = code.build();
+            }
+        }
+        else if (type == AstType.ARRAY)
+        {
+            AstType itemType = member.types().get(1);
+            if (itemType == AstType.VARINT32 || itemType == AstType.VARINT64)
+            {
+                String array = "a" + depth;
+                String lambda = "i" + depth;
+                CodeBlock.Builder code = CodeBlock.builder();
+                for (int count = 1 + random.nextInt(MAX_ITEMS); count > 0; count--)
+                {
+                    code.add(".item($L -> $L.set($L))", lambda, lambda, nextValue(itemType));
+                }
+                mutation = CodeBlock.of(".$L($L -> $L$L)", method, array, array, code.build());
+            }
+        }
+        else if (type == AstType.STRING || type == AstType.STRING16)
+        {
+            mutation = CodeBlock.of(".$L(VALUES, $L, $L)", method, nextOffset(), nextLength());
+        }
+        else if (type == AstType.OCTETS)
+        {
+            mutation = CodeBlock.of(".$L(VALUES, $L, $L)", method, nextOffset(), arrayLength(member, MAX_LENGTH));
+        }
+        else if (isInteger(type) && member.isArray())
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            for (int count = arrayLength(member, MAX_ITEMS); count > 0; count--)
+            {
+                code.add(".append$L($L)", initCap(name), nextValue(type));
+            }
+            mutation = code.build();
+        }
+        else if (isInteger(type))
+        {
+            if (member.usedAsSize())
+            {
+                int size = 1 + random.nextInt(MAX_VARINT_SIZE);
+                sizes.put(name, size);
+                mutation = CodeBlock.of(".$L($L)", method, size);
+            }
+            else
+            {
+                mutation = CodeBlock.of(".$L($L)", method, nextValue(type));
+            }
+        }
+
+        return mutation;
+    }
+
+    private CodeBlock caseMutation(
+        AstMemberNode member)
+    {
+        String name = member.name();
+        AstType type = member.type();
+        CodeBlock mutation = null;
+
+        if (type == AstType.OCTETS)
+        {
+            String lambda = "o" + depth;
+            int length = member.size() != -1 ? member.size() : nextLength();
+            mutation = CodeBlock.of(".$L($L -> $L.set(VALUES, $L, $L))", name, lambda, lambda, nextOffset(), length);
+        }
+        else if (type == AstType.STRING || type == AstType.STRING16)
+        {
+            StringBuilder value = new StringBuilder();
+            for (int length = nextLength(); length > 0; length--)
+            {
+                value.append((char) ('a' + random.nextInt(26)));
+            }
+            mutation = CodeBlock.of(".$L($S)", name, value);
+        }
+        else if (isInteger(type) && !member.isArray() && type != AstType.VARINT32 && type != AstType.VARINT64)
+        {
+            mutation = CodeBlock.of(".$L($L)", name, nextValue(signedType(type)));
+        }
+
+        return mutation;
+    }
+
+    private int arrayLength(
+        AstMemberNode member,
+        int maxLength)
+    {
+        int size = member.size();
+        String sizeName = member.sizeName();
+        if (size != -1)
+        {
+            return size;
+        }
+        else if (sizeName != null && sizes.containsKey(sizeName))
+        {
+            return sizes.get(sizeName);
+        }
+        return 1 + random.nextInt(maxLength);
+    }
+
+    private int nextOffset()
+    {
+        return random.nextInt(VALUES_CAPACITY - MAX_LENGTH);
+    }
+
+    private int nextLength()
+    {
+        return 1 + random.nextInt(MAX_LENGTH);
+    }
+
+    private String nextValue(
+        AstType type)
+    {
+        String value;
+        if (type == AstType.INT8)
+        {
+            value = String.format("(byte) %d", random.nextInt(256) - 128);
+        }
+        else if (type == AstType.INT16)
+        {
+            value = String.format("(short) %d", random.nextInt(65536) - 32768);
+        }
+        else if (type == AstType.UINT8)
+        {
+            value = Integer.toString(random.nextInt(256));
+        }
+        else if (type == AstType.UINT16)
+        {
+            value = Integer.toString(random.nextInt(65536));
+        }
+        else if (type == AstType.INT32 || type == AstType.VARINT32)
+        {
+            value = Integer.toString(random.nextInt());
+        }
+        else if (type == AstType.UINT32)
+        {
+            value = String.format("%dL", random.nextLong() & 0xFFFF_FFFFL);
+        }
+        else if (type == AstType.UINT64)
+        {
+            value = String.format("%dL", random.nextLong() & Long.MAX_VALUE);
+        }
+        else
+        {
+            value = String.format("%dL", random.nextLong());
+        }
+        return value;
+    }
+
+    private static AstType signedType(
+        AstType type)
+    {
+        AstType signedType = type;
+        if (type == AstType.UINT8)
+        {
+            signedType = AstType.INT8;
+        }
+        else if (type == AstType.UINT16)
+        {
+            signedType = AstType.INT16;
+        }
+        else if (type == AstType.UINT32)
+        {
+            signedType = AstType.INT32;
+        }
+        else if (type == AstType.UINT64)
+        {
+            signedType = AstType.INT64;
+        }
+        return signedType;
+    }
+
+    private static boolean isInteger(
+        AstType type)
+    {
+        return type == AstType.INT8 || type == AstType.INT16 || type == AstType.INT32 || type == AstType.INT64 ||
+               type == AstType.UINT8 || type == AstType.UINT16 || type == AstType.UINT32 || type == AstType.UINT64 ||
+               type == AstType.VARINT32 || type == AstType.VARINT64;
+    }
+}
@@ -61,7 +61,8 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                             .addMethod(getMethod())
                             .addMethod(tryWrapMethod())
                             .addMethod(wrapMethod())
-                            .addMethod(toStringMethod())
+                            .addMethod(wrapUncheckedMethod())
+                            .addMethod(appendToMethod())
                             .addType(builderClassBuilder.build())
                             .build();
     }
@@ -134,13 +135,31 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
-    private MethodSpec toStringMethod()
+    private MethodSpec wrapUncheckedMethod()
     {
-        return methodBuilder("toString")
+        return methodBuilder("wrapUnchecked")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : get().toString()")
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("super.wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("return this")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .beginControlFlow("if (maxLimit() == offset())")
+                .addStatement("return builder.append($S)", "null")
+                .endControlFlow()
+                .addStatement("return builder.append(get())")
                 .build();
     }
 
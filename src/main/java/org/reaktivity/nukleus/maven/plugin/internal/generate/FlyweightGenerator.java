@@ -26,9 +26,13 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
-import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.FieldSpec;
@@ -55,10 +59,8 @@ public final class FlyweightGenerator extends ClassSpecGenerator
     public TypeSpec generate()
     {
         return classBuilder.addField(bufferField())
-                .addField(emptyBytesField())
                     .addField(offsetField())
                     .addField(maxLimitField())
-                    .addField(compareBufferField())
                     .addMethod(offsetMethod())
                     .addMethod(bufferMethod())
                     .addMethod(limitMethod())
@@ -66,14 +68,402 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                     .addMethod(maxLimitMethod())
                     .addMethod(tryWrapMethod())
                     .addMethod(wrapMethod())
+                    .addMethod(wrapUncheckedMethod())
                     .addMethod(checkLimitMethod())
                     .addMethod(equalsMethod())
+                    .addMethod(contentEqualsMethod())
                     .addMethod(hashCodeMethod())
+                    .addMethod(toStringMethod())
+                    .addMethod(appendToMethod())
+                    .addMethod(appendFlyweightMethod())
+                    .addMethod(appendIteratorMethod(PrimitiveIterator.OfInt.class, "nextInt"))
+                    .addMethod(appendIteratorMethod(PrimitiveIterator.OfLong.class, "nextLong"))
+                    .addMethod(appendUtf8Method())
+                    .addMethod(contentEqualsAsciiMethod())
+                    .addMethod(contentEqualsUtf8Method())
+                    .addMethod(packAsciiMethod())
+                    .addMethod(matchUtf8Method())
                     .addType(visitorInterface())
+                    .addType(intPrimitiveIteratorClass())
+                    .addType(longPrimitiveIteratorClass())
+                    .addType(utf8SequenceClass())
                     .addType(builderClassBuilder.build())
                     .build();
     }
 
+    private TypeSpec intPrimitiveIteratorClass()
+    {
+        return primitiveIteratorClass("IntPrimitiveIterator", PrimitiveIterator.OfInt.class, int.class,
+                IntUnaryOperator.class, "nextInt", "applyAsInt");
+    }
+
+    private TypeSpec longPrimitiveIteratorClass()
+    {
+        return primitiveIteratorClass("LongPrimitiveIterator", PrimitiveIterator.OfLong.class, long.class,
+                IntToLongFunction.class, "nextLong", "applyAsLong");
+    }
+
+    private TypeSpec primitiveIteratorClass(
+        String simpleName,
+        Class<?> iteratorType,
+        Class<?> elementType,
+        Class<?> accessorType,
+        String nextName,
+        String applyName)
+    {
+        return classBuilder(thisName.nestedClass(simpleName))
+                .addModifiers(PROTECTED, STATIC, FINAL)
+                .addSuperinterface(iteratorType)
+                .addField(String.class, "fieldName", PRIVATE, FINAL)
+                .addField(int.class, "fieldSize", PRIVATE, FINAL)
+                .addField(accessorType, "accessor", PRIVATE, FINAL)
+                .addField(int.class, "offset", PRIVATE)
+                .addField(int.class, "count", PRIVATE)
+                .addField(int.class, "index", PRIVATE)
+                .addMethod(constructorBuilder()
+                        .addModifiers(PUBLIC)
+                        .addParameter(String.class, "fieldName")
+                        .addParameter(int.class, "fieldSize")
+                        .addParameter(accessorType, "accessor")
+                        .addStatement("this.fieldName = fieldName")
+                        .addStatement("this.fieldSize = fieldSize")
+                        .addStatement("this.accessor = accessor")
+                        .build())
+                .addMethod(methodBuilder("wrap")
+                        .addModifiers(PUBLIC)
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "count")
+                        .returns(thisName.nestedClass(simpleName))
+                        .addStatement("this.offset = offset")
+                        .addStatement("this.count = count")
+                        .addStatement("this.index = 0")
+                        .addStatement("return this")
+                        .build())
+                .addMethod(methodBuilder("reset")
+                        .addModifiers(PUBLIC)
+                        .addStatement("index = 0")
+                        .build())
+                .addMethod(methodBuilder("hasNext")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return index < count")
+                        .build())
+                .addMethod(methodBuilder(nextName)
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(elementType)
+                        .beginControlFlow("if (!hasNext())")
+                        .addStatement("throw new $T(fieldName + \": \" + index)", NoSuchElementException.class)
+                        .endControlFlow()
+                        .addStatement("return accessor.$L(offset + fieldSize * index++)", applyName)
+                        .build())
+                .addMethod(methodBuilder("toString")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(String.class)
+                        .addStatement("return append(new StringBuilder(), this).toString()")
+                        .build())
+                .build();
+    }
+
+    private MethodSpec toStringMethod()
+    {
+        return methodBuilder("toString")
+                  .addAnnotation(Override.class)
+                  .addModifiers(PUBLIC)
+                  .returns(String.class)
+                  .addStatement("return appendTo(new StringBuilder()).toString()")
+                  .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                  .addModifiers(PUBLIC)
+                  .addParameter(StringBuilder.class, "builder")
+                  .returns(StringBuilder.class)
+                  .addStatement("return builder.append(getClass().getName()).append('@').append(Integer.toHexString(hashCode()))")
+                  .build();
+    }
+
+    private MethodSpec appendFlyweightMethod()
+    {
+        return methodBuilder("append")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addParameter(thisName, "value")
+                  .returns(StringBuilder.class)
+                  .addStatement("return value == null ? builder.append($S) : value.appendTo(builder)", "null")
+                  .build();
+    }
+
+    private MethodSpec appendIteratorMethod(
+        Class<?> iteratorType,
+        String nextName)
+    {
+        return methodBuilder("append")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addParameter(iteratorType, "iterator")
+                  .returns(StringBuilder.class)
+                  .beginControlFlow("if (iterator == null)")
+                  .addStatement("return builder.append($S)", "null")
+                  .endControlFlow()
+                  .addStatement("builder.append('[')")
+                  .beginControlFlow("for (int index = 0; iterator.hasNext(); index++)")
+                  .beginControlFlow("if (index != 0)")
+                  .addStatement("builder.append($S)", ", ")
+                  .endControlFlow()
+                  .addStatement("builder.append(iterator.$L())", nextName)
+                  .endControlFlow()
+                  .addStatement("return builder.append(']')")
+                  .build();
+    }
+
+    private MethodSpec appendUtf8Method()
+    {
+        return methodBuilder("appendUtf8")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addParameter(DIRECT_BUFFER_TYPE, "value")
+                  .returns(StringBuilder.class)
+                  .beginControlFlow("if (value == null)")
+                  .addStatement("return builder.append($S)", "null")
+                  .endControlFlow()
+                  .addStatement("final int length = value.capacity()")
+                  .beginControlFlow("for (int index = 0; index < length; index++)")
+                  .addStatement("final byte ascii = value.getByte(index)")
+                  .beginControlFlow("if (ascii < 0)")
+                  .addStatement("return builder.append(value.getStringWithoutLengthUtf8(index, length - index))")
+                  .endControlFlow()
+                  .addStatement("builder.append((char) ascii)")
+                  .endControlFlow()
+                  .addStatement("return builder")
+                  .build();
+    }
+
+    private MethodSpec contentEqualsAsciiMethod()
+    {
+        return methodBuilder("contentEqualsAscii")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "length")
+                  .addParameter(CharSequence.class, "value")
+                  .returns(boolean.class)
+                  .beginControlFlow("if (value.length() != length)")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .addStatement("int index = 0")
+                  .beginControlFlow("for (; index + Long.BYTES <= length; index += Long.BYTES)")
+                  .addStatement("final long word = packAscii(value, index)")
+                  .beginControlFlow("if (word == -1L || buffer.getLong(offset + index, $T.LITTLE_ENDIAN) != word)",
+                          ByteOrder.class)
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < length; index++)")
+                  .addStatement("final char ch = value.charAt(index)")
+                  .beginControlFlow("if (ch > 0x7f || buffer.getByte(offset + index) != (byte) ch)")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return true")
+                  .build();
+    }
+
+    private MethodSpec contentEqualsUtf8Method()
+    {
+        return methodBuilder("contentEqualsUtf8")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "length")
+                  .addParameter(CharSequence.class, "value")
+                  .returns(boolean.class)
+                  .addStatement("final int limit = offset + length")
+                  .addStatement("final int count = value.length()")
+                  .addStatement("int index = 0")
+                  .addStatement("int progress = offset")
+                  .beginControlFlow("for (; index + Long.BYTES <= count && progress + Long.BYTES <= limit; " +
+                                    "index += Long.BYTES, progress += Long.BYTES)")
+                  .addStatement("final long word = packAscii(value, index)")
+                  .beginControlFlow("if (word == -1L)")
+                  .addStatement("break")
+                  .endControlFlow()
+                  .beginControlFlow("if (buffer.getLong(progress, $T.LITTLE_ENDIAN) != word)", ByteOrder.class)
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < count && progress != -1; index++)")
+                  .addStatement("final char ch = value.charAt(index)")
+                  .beginControlFlow("if (ch <= 0x7f)")
+                  .addStatement("progress = progress < limit && buffer.getByte(progress) == ch ? progress + 1 : -1")
+                  .nextControlFlow("else if ($T.isHighSurrogate(ch) && index + 1 < count && " +
+                                   "$T.isLowSurrogate(value.charAt(index + 1)))", Character.class, Character.class)
+                  .addStatement("progress = matchUtf8(buffer, progress, limit, $T.toCodePoint(ch, value.charAt(++index)))",
+                          Character.class)
+                  .nextControlFlow("else")
+                  .addStatement("progress = matchUtf8(buffer, progress, limit, $T.isSurrogate(ch) ? '?' : ch)",
+                          Character.class)
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return progress == limit")
+                  .build();
+    }
+
+    private MethodSpec packAsciiMethod()
+    {
+        return methodBuilder("packAscii")
+                  .addModifiers(PRIVATE, STATIC)
+                  .addParameter(CharSequence.class, "value")
+                  .addParameter(int.class, "index")
+                  .returns(long.class)
+                  .addStatement("long word = 0L")
+                  .addStatement("int chars = 0")
+                  .beginControlFlow("for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE)")
+                  .addStatement("final char ch = value.charAt(index++)")
+                  .addStatement("chars |= ch")
+                  .addStatement("word |= (long) ch << shift")
+                  .endControlFlow()
+                  .addStatement("return chars > 0x7f ? -1L : word")
+                  .build();
+    }
+
+    private MethodSpec matchUtf8Method()
+    {
+        return methodBuilder("matchUtf8")
+                  .addModifiers(PRIVATE, STATIC)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "index")
+                  .addParameter(int.class, "limit")
+                  .addParameter(int.class, "codePoint")
+                  .returns(int.class)
+                  .addStatement("final int size = codePoint <= 0x7f ? 1 : codePoint <= 0x7ff ? 2 : codePoint <= 0xffff ? 3 : 4")
+                  .beginControlFlow("if (index + size > limit)")
+                  .addStatement("return -1")
+                  .endControlFlow()
+                  .addStatement("final int lead = size == 1 ? codePoint : (0xf00 >> size) & 0xff | codePoint >> (6 * (size - 1))")
+                  .beginControlFlow("if (buffer.getByte(index) != (byte) lead)")
+                  .addStatement("return -1")
+                  .endControlFlow()
+                  .beginControlFlow("for (int trail = 1; trail < size; trail++)")
+                  .addStatement("final int bits = codePoint >> (6 * (size - 1 - trail)) & 0x3f")
+                  .beginControlFlow("if (buffer.getByte(index + trail) != (byte) (0x80 | bits))")
+                  .addStatement("return -1")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return index + size")
+                  .build();
+    }
+
+    private TypeSpec utf8SequenceClass()
+    {
+        ClassName sequenceName = thisName.nestedClass("Utf8Sequence");
+        return classBuilder(sequenceName)
+                .addModifiers(PROTECTED, STATIC, FINAL)
+                .addSuperinterface(CharSequence.class)
+                .addField(DIRECT_BUFFER_TYPE, "buffer", PRIVATE)
+                .addField(int.class, "offset", PRIVATE)
+                .addField(int.class, "length", PRIVATE)
+                .addField(int.class, "ascii", PRIVATE)
+                .addField(String.class, "decoded", PRIVATE)
+                .addMethod(methodBuilder("wrap")
+                        .addModifiers(PUBLIC)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "length")
+                        .returns(sequenceName)
+                        .addStatement("this.buffer = buffer")
+                        .addStatement("this.offset = offset")
+                        .addStatement("this.length = length")
+                        .addStatement("this.ascii = -1")
+                        .addStatement("this.decoded = null")
+                        .addStatement("return this")
+                        .build())
+                .addMethod(methodBuilder("length")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return isAscii() ? length : toString().length()")
+                        .build())
+                .addMethod(methodBuilder("charAt")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(int.class, "index")
+                        .returns(char.class)
+                        .beginControlFlow("if (!isAscii())")
+                        .addStatement("return toString().charAt(index)")
+                        .endControlFlow()
+                        .beginControlFlow("if (index < 0 || index >= length)")
+                        .addStatement("throw new $T(String.format($S, index, length))",
+                                IndexOutOfBoundsException.class, "index=%d length=%d")
+                        .endControlFlow()
+                        .addStatement("return (char) buffer.getByte(offset + index)")
+                        .build())
+                .addMethod(methodBuilder("subSequence")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(int.class, "start")
+                        .addParameter(int.class, "end")
+                        .returns(CharSequence.class)
+                        .addStatement("return toString().subSequence(start, end)")
+                        .build())
+                .addMethod(methodBuilder("contentEquals")
+                        .addModifiers(PUBLIC)
+                        .addParameter(CharSequence.class, "value")
+                        .returns(boolean.class)
+                        .beginControlFlow("if (value == null)")
+                        .addStatement("return false")
+                        .endControlFlow()
+                        .addStatement("return isAscii() ? contentEqualsAscii(buffer, offset, length, value) : " +
+                                      "toString().contentEquals(value)")
+                        .build())
+                .addMethod(methodBuilder("equals")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(Object.class, "obj")
+                        .returns(boolean.class)
+                        .addStatement("return this == obj || obj instanceof $T && contentEquals(($T) obj)",
+                                sequenceName, sequenceName)
+                        .build())
+                .addMethod(methodBuilder("hashCode")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .beginControlFlow("if (!isAscii())")
+                        .addStatement("return toString().hashCode()")
+                        .endControlFlow()
+                        .addStatement("int hash = 0")
+                        .beginControlFlow("for (int index = 0; index < length; index++)")
+                        .addStatement("hash = 31 * hash + buffer.getByte(offset + index)")
+                        .endControlFlow()
+                        .addStatement("return hash")
+                        .build())
+                .addMethod(methodBuilder("toString")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(String.class)
+                        .beginControlFlow("if (decoded == null)")
+                        .addStatement("decoded = buffer.getStringWithoutLengthUtf8(offset, length)")
+                        .endControlFlow()
+                        .addStatement("return decoded")
+                        .build())
+                .addMethod(methodBuilder("isAscii")
+                        .addModifiers(PRIVATE)
+                        .returns(boolean.class)
+                        .beginControlFlow("if (ascii == -1)")
+                        .addStatement("ascii = 1")
+                        .beginControlFlow("for (int index = 0; index < length && ascii == 1; index++)")
+                        .addStatement("ascii = buffer.getByte(offset + index) < 0 ? 0 : 1")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return ascii == 1")
+                        .build())
+                .build();
+    }
+
     private TypeSpec visitorInterface()
     {
         TypeVariableName typeVarT = TypeVariableName.get("T");
@@ -106,20 +496,6 @@ public final class FlyweightGenerator extends ClassSpecGenerator
         return FieldSpec.builder(int.class, "maxLimit", PRIVATE).build();
     }
 
-    private FieldSpec compareBufferField()
-    {
-        return FieldSpec.builder(UNSAFE_BUFFER_TYPE, "compareBuffer", PRIVATE)
-                .initializer("new UnsafeBuffer(EMPTY_BYTES)")
-                .build();
-    }
-
-    private FieldSpec emptyBytesField()
-    {
-        return FieldSpec.builder(byte[].class, "EMPTY_BYTES", PRIVATE, STATIC)
-                .initializer("new byte[0]")
-                .build();
-    }
-
     private MethodSpec maxLimitMethod()
     {
         return methodBuilder("maxLimit")
@@ -202,6 +578,21 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .build();
     }
 
+    private MethodSpec wrapUncheckedMethod()
+    {
+        return methodBuilder("wrapUnchecked")
+                  .addModifiers(PUBLIC)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "maxLimit")
+                  .returns(thisName)
+                  .addStatement("this.buffer = buffer")
+                  .addStatement("this.offset = offset")
+                  .addStatement("this.maxLimit = maxLimit")
+                  .addStatement("return this")
+                  .build();
+    }
+
     private MethodSpec checkLimitMethod()
     {
         return methodBuilder("checkLimit")
@@ -229,24 +620,65 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addStatement("return false")
                   .nextControlFlow("else")
                   .addStatement("Flyweight that = (Flyweight) obj")
-                  .addStatement("compareBuffer.wrap(buffer, offset, sizeof())")
-                  .addStatement("that.compareBuffer.wrap(that.buffer, that.offset, that.sizeof())")
-                  .addStatement("return compareBuffer.equals(that.compareBuffer)")
+                  .addStatement("return contentEquals(that.buffer, that.offset, that.sizeof())")
                   .endControlFlow()
                   .build();
     }
 
+    private MethodSpec contentEqualsMethod()
+    {
+        return methodBuilder("contentEquals")
+                  .addModifiers(PUBLIC, FINAL)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "length")
+                  .returns(boolean.class)
+                  .beginControlFlow("if (sizeof() != length)")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .addStatement("final $T thisBuffer = this.buffer", DIRECT_BUFFER_TYPE)
+                  .addStatement("final int thisOffset = this.offset")
+                  .addStatement("final int words = length & ~(Long.BYTES - 1)")
+                  .addStatement("int index = 0")
+                  .beginControlFlow("for (; index < words; index += Long.BYTES)")
+                  .beginControlFlow("if (thisBuffer.getLong(thisOffset + index) != buffer.getLong(offset + index))")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < length; index++)")
+                  .beginControlFlow("if (thisBuffer.getByte(thisOffset + index) != buffer.getByte(offset + index))")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return true")
+                  .build();
+    }
+
     private MethodSpec hashCodeMethod()
     {
         return methodBuilder("hashCode")
                   .addAnnotation(Override.class)
                   .addModifiers(PUBLIC)
                   .returns(int.class)
-                  .addStatement("int result = 1")
-                  .beginControlFlow("for (int i = offset; i < limit(); i++)")
-                  .addStatement("result = 31 * result + buffer.getByte(i)")
+                  .addStatement("final int length = sizeof()")
+                  .addStatement("final int words = length & ~(Long.BYTES - 1)")
+                  .addStatement("long hash = length")
+                  .addStatement("int index = 0")
+                  .beginControlFlow("for (; index < words; index += Long.BYTES)")
+                  .addStatement("hash = (hash ^ buffer.getLong(offset + index)) * 0x9E3779B97F4A7C15L")
+                  .addStatement("hash ^= hash >>> 32")
+                  .endControlFlow()
+                  .beginControlFlow("if (index < length)")
+                  .addStatement("long tail = 0L")
+                  .beginControlFlow("for (; index < length; index++)")
+                  .addStatement("tail = (tail << 8) | (buffer.getByte(offset + index) & 0xFF)")
+                  .endControlFlow()
+                  .addStatement("hash = (hash ^ tail) * 0x9E3779B97F4A7C15L")
                   .endControlFlow()
-                  .addStatement("return result")
+                  .addStatement("hash ^= hash >>> 33")
+                  .addStatement("hash *= 0xFF51AFD7ED558CCDL")
+                  .addStatement("hash ^= hash >>> 33")
+                  .addStatement("return (int) (hash ^ (hash >>> 32))")
                   .build();
     }
 
@@ -55,7 +55,8 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                             .addMethod(limitMethod())
                             .addMethod(tryWrapMethod())
                             .addMethod(wrapMethod())
-                            .addMethod(toStringMethod())
+                            .addMethod(wrapUncheckedMethod())
+                            .addMethod(appendToMethod())
                             .addType(builderClassBuilder.build())
                             .build();
     }
@@ -117,13 +118,28 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
-    private MethodSpec toStringMethod()
+    private MethodSpec wrapUncheckedMethod()
     {
-        return methodBuilder("toString")
+        return methodBuilder("wrapUnchecked")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class)
-                .addStatement("return String.format(\"octets[%d]\", sizeof())")
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("super.wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("return this")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append($S).append(sizeof()).append(']')", "octets[")
                 .build();
     }
 
@@ -42,6 +42,7 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
 {
     private final TypeSpec.Builder classBuilder;
     private final BuilderClassBuilder builderClassBuilder;
+    private final ClassName utf8SequenceType;
 
     public String16FlyweightGenerator(
         ClassName flyweightType)
@@ -49,6 +50,7 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
         super(flyweightType.peerClass("String16FW"));
 
         this.classBuilder = classBuilder(thisName).superclass(flyweightType).addModifiers(PUBLIC, FINAL);
+        this.utf8SequenceType = flyweightType.nestedClass("Utf8Sequence");
         this.builderClassBuilder = new BuilderClassBuilder(thisName, flyweightType.nestedClass("Builder"));
     }
 
@@ -58,14 +60,19 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
         return classBuilder.addField(fieldSizeLengthConstant())
                            .addField(fieldByteOrder())
                            .addField(valueField())
+                           .addField(charsField())
                            .addMethod(constructor())
                            .addMethod(constructorByteOrder())
                            .addMethod(limitMethod())
                            .addMethod(valueMethod())
                            .addMethod(asStringMethod())
+                           .addMethod(asCharSequenceMethod())
+                           .addMethod(equalsAsciiMethod())
+                           .addMethod(equalsStringMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
-                           .addMethod(toStringMethod())
+                           .addMethod(wrapUncheckedMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(length0Method())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -84,6 +91,13 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec charsField()
+    {
+        return FieldSpec.builder(utf8SequenceType, "charsRO", PRIVATE, FINAL)
+                .initializer("new $T()", utf8SequenceType)
+                .build();
+    }
+
     private FieldSpec valueField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "valueRO", PRIVATE, FINAL)
@@ -130,6 +144,46 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec asCharSequenceMethod()
+    {
+        return methodBuilder("asCharSequence")
+                .addModifiers(PUBLIC)
+                .returns(CharSequence.class)
+                .beginControlFlow("if (maxLimit() == offset() || length0() == -1)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return charsRO.wrap(buffer(), offset() + FIELD_SIZE_LENGTH, length0())")
+                .build();
+    }
+
+    private MethodSpec equalsAsciiMethod()
+    {
+        return methodBuilder("equalsAscii")
+                .addModifiers(PUBLIC)
+                .addParameter(CharSequence.class, "value")
+                .returns(boolean.class)
+                .beginControlFlow("if (maxLimit() == offset() || length0() == -1)")
+                .addStatement("return value == null")
+                .endControlFlow()
+                .addStatement("return value != null && " +
+                              "contentEqualsAscii(buffer(), offset() + FIELD_SIZE_LENGTH, length0(), value)")
+                .build();
+    }
+
+    private MethodSpec equalsStringMethod()
+    {
+        return methodBuilder("equals")
+                .addModifiers(PUBLIC)
+                .addParameter(String.class, "value")
+                .returns(boolean.class)
+                .beginControlFlow("if (maxLimit() == offset() || length0() == -1)")
+                .addStatement("return value == null")
+                .endControlFlow()
+                .addStatement("return value != null && " +
+                              "contentEqualsUtf8(buffer(), offset() + FIELD_SIZE_LENGTH, length0(), value)")
+                .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -172,6 +226,24 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec wrapUncheckedMethod()
+    {
+        return methodBuilder("wrapUnchecked")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("super.wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("int length0 = length0()")
+                .beginControlFlow("if (length0 != -1)")
+                .addStatement("valueRO.wrap(buffer, offset + FIELD_SIZE_LENGTH, length0)")
+                .endControlFlow()
+                .addStatement("return this")
+                .build();
+    }
+
     private MethodSpec valueMethod()
     {
         return methodBuilder("value")
@@ -181,13 +253,17 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
-    private MethodSpec toStringMethod()
+    private MethodSpec appendToMethod()
     {
-        return methodBuilder("toString")
+        return methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : String.format(\"\\\"%s\\\"\", asString())")
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .beginControlFlow("if (maxLimit() == offset())")
+                .addStatement("return builder.append($S)", "null")
+                .endControlFlow()
+                .addStatement("return appendUtf8(builder.append('\"'), value()).append('\"')")
                 .build();
     }
 
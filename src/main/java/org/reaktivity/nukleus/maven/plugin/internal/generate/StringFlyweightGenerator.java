@@ -41,6 +41,7 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
 {
     private final TypeSpec.Builder classBuilder;
     private final BuilderClassBuilder builderClassBuilder;
+    private final ClassName utf8SequenceType;
 
     public StringFlyweightGenerator(
         ClassName flyweightType)
@@ -48,6 +49,7 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
         super(flyweightType.peerClass("StringFW"));
 
         this.classBuilder = classBuilder(thisName).superclass(flyweightType).addModifiers(PUBLIC, FINAL);
+        this.utf8SequenceType = flyweightType.nestedClass("Utf8Sequence");
         this.builderClassBuilder = new BuilderClassBuilder(thisName, flyweightType.nestedClass("Builder"));
     }
 
@@ -56,12 +58,17 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
     {
         return classBuilder.addField(fieldSizeLengthConstant())
                            .addField(valueField())
+                           .addField(charsField())
                            .addMethod(limitMethod())
                            .addMethod(asStringMethod())
+                           .addMethod(asCharSequenceMethod())
+                           .addMethod(equalsAsciiMethod())
+                           .addMethod(equalsStringMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
+                           .addMethod(wrapUncheckedMethod())
                            .addMethod(valueMethod())
-                           .addMethod(toStringMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(length0Method())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -74,6 +81,13 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec charsField()
+    {
+        return FieldSpec.builder(utf8SequenceType, "charsRO", PRIVATE, FINAL)
+                .initializer("new $T()", utf8SequenceType)
+                .build();
+    }
+
     private FieldSpec valueField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "valueRO", PRIVATE, FINAL)
@@ -103,6 +117,46 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec asCharSequenceMethod()
+    {
+        return methodBuilder("asCharSequence")
+                .addModifiers(PUBLIC)
+                .returns(CharSequence.class)
+                .beginControlFlow("if (maxLimit() == offset() || length0() == -1)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return charsRO.wrap(buffer(), offset() + FIELD_SIZE_LENGTH, length0())")
+                .build();
+    }
+
+    private MethodSpec equalsAsciiMethod()
+    {
+        return methodBuilder("equalsAscii")
+                .addModifiers(PUBLIC)
+                .addParameter(CharSequence.class, "value")
+                .returns(boolean.class)
+                .beginControlFlow("if (maxLimit() == offset() || length0() == -1)")
+                .addStatement("return value == null")
+                .endControlFlow()
+                .addStatement("return value != null && " +
+                              "contentEqualsAscii(buffer(), offset() + FIELD_SIZE_LENGTH, length0(), value)")
+                .build();
+    }
+
+    private MethodSpec equalsStringMethod()
+    {
+        return methodBuilder("equals")
+                .addModifiers(PUBLIC)
+                .addParameter(String.class, "value")
+                .returns(boolean.class)
+                .beginControlFlow("if (maxLimit() == offset() || length0() == -1)")
+                .addStatement("return value == null")
+                .endControlFlow()
+                .addStatement("return value != null && " +
+                              "contentEqualsUtf8(buffer(), offset() + FIELD_SIZE_LENGTH, length0(), value)")
+                .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -145,6 +199,24 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec wrapUncheckedMethod()
+    {
+        return methodBuilder("wrapUnchecked")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("super.wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("int length0 = length0()")
+                .beginControlFlow("if (length0 != -1)")
+                .addStatement("valueRO.wrap(buffer, offset + FIELD_SIZE_LENGTH, length0)")
+                .endControlFlow()
+                .addStatement("return this")
+                .build();
+    }
+
     private MethodSpec valueMethod()
     {
         return methodBuilder("value")
@@ -154,13 +226,14 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
-    private MethodSpec toStringMethod()
+    private MethodSpec appendToMethod()
     {
-        return methodBuilder("toString")
+        return methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class)
-                .addStatement("return String.format(\"\\\"%s\\\"\", asString())")
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return appendUtf8(builder.append('\"'), maxLimit() == offset() ? null : value()).append('\"')")
                 .build();
     }
 
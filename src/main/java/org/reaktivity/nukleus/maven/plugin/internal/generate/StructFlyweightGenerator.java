@@ -40,14 +40,12 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
-import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
 
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
@@ -88,6 +86,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     }
 
     private final String baseName;
+    private final boolean lazyWrap;
     private final TypeSpec.Builder builder;
     private final TypeIdGenerator typeId;
     private final MemberFieldGenerator memberField;
@@ -96,28 +95,40 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     private final MemberAccessorGenerator memberAccessor;
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
+    private final WrapMethodGenerator wrapUncheckedMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public StructFlyweightGenerator(
         ClassName structName,
         ClassName flyweightName,
         String baseName)
+    {
+        this(structName, flyweightName, baseName, false);
+    }
+
+    public StructFlyweightGenerator(
+        ClassName structName,
+        ClassName flyweightName,
+        String baseName,
+        boolean lazyWrap)
     {
         super(structName);
 
         this.baseName = baseName;
+        this.lazyWrap = lazyWrap;
         this.builder = classBuilder(structName).superclass(flyweightName).addModifiers(PUBLIC, FINAL);
         this.typeId = new TypeIdGenerator(structName, builder);
         this.memberSizeConstant = new MemberSizeConstantGenerator(structName, builder);
         this.memberOffsetConstant = new MemberOffsetConstantGenerator(structName, builder);
-        this.memberField = new MemberFieldGenerator(structName, builder);
-        this.memberAccessor = new MemberAccessorGenerator(structName, builder);
+        this.memberField = new MemberFieldGenerator(structName, flyweightName, builder);
+        this.memberAccessor = new MemberAccessorGenerator(structName, builder, lazyWrap);
         this.tryWrapMethod = new TryWrapMethodGenerator(structName);
-        this.wrapMethod = new WrapMethodGenerator(structName);
+        this.wrapMethod = new WrapMethodGenerator(structName, "wrap");
+        this.wrapUncheckedMethod = new WrapMethodGenerator(structName, "wrapUnchecked");
         this.limitMethod = new LimitMethodGenerator();
-        this.toStringMethod = new ToStringMethodGenerator();
+        this.appendToMethod = new AppendToMethodGenerator();
         this.builderClass = new BuilderClassGenerator(structName, flyweightName);
     }
 
@@ -146,7 +157,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         limitMethod.addMember(name, type, unsignedType, size, sizeName);
         tryWrapMethod.addMember(name, type, unsignedType, size, sizeName, defaultValue);
         wrapMethod.addMember(name, type, unsignedType, size, sizeName, defaultValue);
-        toStringMethod.addMember(name, type, unsignedType, size, sizeName);
+        wrapUncheckedMethod.addMember(name, type, unsignedType, size, sizeName, defaultValue);
+        appendToMethod.addMember(name, type, unsignedType, size, sizeName);
         builderClass.addMember(name, type, unsignedType, size, sizeName, sizeType, usedAsSize, defaultValue, byteOrder);
 
         return this;
@@ -161,10 +173,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         memberField.build();
         memberAccessor.build();
 
+        if (lazyWrap && wrapMethod.hasWrappedMembers())
+        {
+            builder.addField(int.class, "wrappedMembers", PRIVATE)
+                   .addMethod(wrapMethod.generateWrapMembers());
+        }
+
         return builder.addMethod(wrapMethod.generate())
+                      .addMethod(wrapUncheckedMethod.generate())
                       .addMethod(tryWrapMethod.generate())
                       .addMethod(limitMethod.generate())
-                      .addMethod(toStringMethod.generate())
+                      .addMethod(appendToMethod.generate())
                       .addType(builderClass.generate())
                       .build();
     }
@@ -302,14 +321,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
     private static final class MemberFieldGenerator extends ClassSpecMixinGenerator
     {
-        private boolean generateIntPrimitiveIterator;
-        private boolean generateLongPrimitiveIterator;
+        private final ClassName flyweightType;
 
         private MemberFieldGenerator(
             ClassName thisType,
+            ClassName flyweightType,
             TypeSpec.Builder builder)
         {
             super(thisType, builder);
+            this.flyweightType = flyweightType;
         }
 
         public MemberFieldGenerator addMember(
@@ -342,17 +362,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
             }
-            ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
+            ClassName iteratorClass = iteratorClass(flyweightType, type, unsignedType);
+            TypeName targetType = (unsignedType != null) ? unsignedType : type;
+            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
+            CodeBlock.Builder initializer = CodeBlock.builder()
+                    .add("new $T($S, $L, o -> ", iteratorClass, name, size(name));
+            addBufferGet(initializer, targetType, type, unsignedType, "o");
+            initializer.add(")");
+            builder.addField(FieldSpec.builder(iteratorClass, iterator(name) + "RO", PRIVATE, FINAL)
+                    .initializer(initializer.build())
+                    .build());
             builder.addField(iteratorClass, iterator(name), PRIVATE);
-            TypeName generateType = (unsignedType != null) ? unsignedType : type;
-            if (generateType == TypeName.LONG)
-            {
-                generateLongPrimitiveIterator = true;
-            }
-            else
-            {
-                generateIntPrimitiveIterator = true;
-            }
         }
 
         private MemberFieldGenerator addNonPrimitiveMember(
@@ -389,159 +409,28 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
 
             builder.addField(fieldBuilder.build());
-            return this;
-        }
-
-        @Override
-        public TypeSpec.Builder build()
-        {
-            if (generateIntPrimitiveIterator)
+            if (!TypeNames.DIRECT_BUFFER_TYPE.equals(type))
             {
-                generateIntPrimitiveIteratorInnerClass();
-            }
-            if (generateLongPrimitiveIterator)
-            {
-                generateLongPrimitiveIteratorInnerClass();
+                builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
             }
-            return super.build();
-        }
-
-        private void generateIntPrimitiveIteratorInnerClass()
-        {
-            ClassName intIterator = thisType.nestedClass("IntPrimitiveIterator");
-            TypeSpec.Builder builder = classBuilder(intIterator.simpleName())
-                    .addModifiers(PRIVATE, FINAL)
-                    .addSuperinterface(INT_ITERATOR_CLASS_NAME);
-            builder.addField(String.class, "fieldName", PRIVATE, FINAL);
-            builder.addField(int.class, "offset", PRIVATE, FINAL);
-            builder.addField(int.class, "fieldSize", PRIVATE, FINAL);
-            builder.addField(int.class, "count", PRIVATE, FINAL);
-            builder.addField(IntUnaryOperator.class, "accessor", PRIVATE, FINAL);
-            builder.addField(int.class, "index", PRIVATE);
-
-            builder.addMethod(constructorBuilder()
-                    .addParameter(String.class, "fieldName")
-                    .addParameter(int.class, "offset")
-                    .addParameter(int.class, "fieldSize")
-                    .addParameter(int.class, "count")
-                    .addParameter(IntUnaryOperator.class, "accessor")
-                    .addStatement("this.fieldName = fieldName")
-                    .addStatement("this.offset = offset")
-                    .addStatement("this.fieldSize = fieldSize")
-                    .addStatement("this.count = count")
-                    .addStatement("this.accessor = accessor")
-                    .build());
-
-            builder.addMethod(MethodSpec.methodBuilder("hasNext")
-                    .addAnnotation(Override.class)
-                    .addModifiers(PUBLIC)
-                    .returns(boolean.class)
-                    .addStatement("return index < count")
-                    .build());
-
-            builder.addMethod(MethodSpec.methodBuilder("nextInt")
-                    .addAnnotation(Override.class)
-                    .addModifiers(PUBLIC)
-                    .returns(int.class)
-                    .beginControlFlow("if (!hasNext())")
-                    .addStatement("throw new $T(fieldName + \": \" + index)", NoSuchElementException.class)
-                    .endControlFlow()
-                    .addStatement("return accessor.applyAsInt(offset + fieldSize * index++)")
-                    .build());
-
-            builder.addMethod(MethodSpec.methodBuilder("toString")
-                            .addAnnotation(Override.class)
-                            .addModifiers(PUBLIC)
-                            .returns(String.class)
-                            .addStatement("StringBuffer result = new StringBuffer().append($S)", "[")
-                            .addStatement("boolean first = true")
-                            .beginControlFlow("while(hasNext())")
-                            .beginControlFlow("if (!first)")
-                            .addStatement("result.append($S)", ", ")
-                            .endControlFlow()
-                            .addStatement("result.append(nextInt())")
-                            .addStatement("first = false")
-                            .endControlFlow()
-                            .addStatement("result.append($S)", "]")
-                            .addStatement("return result.toString()")
-                            .build());
-
-            MemberFieldGenerator.this.builder.addType(builder.build());
-        }
-
-        private void generateLongPrimitiveIteratorInnerClass()
-        {
-            ClassName longIterator = thisType.nestedClass("LongPrimitiveIterator");
-            TypeSpec.Builder builder = classBuilder(longIterator.simpleName())
-                    .addModifiers(PRIVATE, FINAL)
-                    .addSuperinterface(LONG_ITERATOR_CLASS_NAME);
-            builder.addField(String.class, "fieldName", PRIVATE, FINAL);
-            builder.addField(int.class, "offset", PRIVATE, FINAL);
-            builder.addField(int.class, "fieldSize", PRIVATE, FINAL);
-            builder.addField(int.class, "count", PRIVATE, FINAL);
-            builder.addField(IntToLongFunction.class, "accessor", PRIVATE, FINAL);
-            builder.addField(int.class, "index", PRIVATE);
-
-            builder.addMethod(constructorBuilder()
-                    .addParameter(String.class, "fieldName")
-                    .addParameter(int.class, "offset")
-                    .addParameter(int.class, "fieldSize")
-                    .addParameter(int.class, "count")
-                    .addParameter(IntToLongFunction.class, "accessor")
-                    .addStatement("this.fieldName = fieldName")
-                    .addStatement("this.offset = offset")
-                    .addStatement("this.fieldSize = fieldSize")
-                    .addStatement("this.count = count")
-                    .addStatement("this.accessor = accessor")
-                    .build());
-
-            builder.addMethod(MethodSpec.methodBuilder("hasNext")
-                    .addAnnotation(Override.class)
-                    .addModifiers(PUBLIC)
-                    .returns(boolean.class)
-                    .addStatement("return index < count")
-                    .build());
-
-            builder.addMethod(MethodSpec.methodBuilder("nextLong")
-                    .addAnnotation(Override.class)
-                    .addModifiers(PUBLIC)
-                    .returns(long.class)
-                    .beginControlFlow("if (!hasNext())")
-                    .addStatement("throw new $T(fieldName + \": \" + index)", NoSuchElementException.class)
-                    .endControlFlow()
-                    .addStatement("return accessor.applyAsLong(offset + fieldSize * index++)")
-                    .build());
-
-            builder.addMethod(MethodSpec.methodBuilder("toString")
-                            .addAnnotation(Override.class)
-                            .addModifiers(PUBLIC)
-                            .returns(String.class)
-                            .addStatement("StringBuffer result = new StringBuffer().append($S)", "[")
-                            .addStatement("boolean first = true")
-                            .beginControlFlow("while(hasNext())")
-                            .beginControlFlow("if (!first)")
-                            .addStatement("result.append($S)", ", ")
-                            .endControlFlow()
-                            .addStatement("result.append(nextLong())")
-                            .addStatement("first = false")
-                            .endControlFlow()
-                            .addStatement("result.append($S)", "]")
-                            .addStatement("return result.toString()")
-                            .build());
-
-            MemberFieldGenerator.this.builder.addType(builder.build());
+            return this;
         }
     }
 
     private static final class MemberAccessorGenerator extends ClassSpecMixinGenerator
     {
+        private final boolean lazyWrap;
         private String anchorLimit;
+        private int wrappedMembers;
+        private int anchorWrappedMembers;
 
         private MemberAccessorGenerator(
             ClassName thisType,
-            TypeSpec.Builder builder)
+            TypeSpec.Builder builder,
+            boolean lazyWrap)
         {
             super(thisType, builder);
+            this.lazyWrap = lazyWrap;
         }
 
         public MemberAccessorGenerator addMember(
@@ -581,17 +470,20 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName generateType = (unsignedType != null) ? unsignedType : type;
             generateType = generateType == TypeName.LONG ? LONG_ITERATOR_CLASS_NAME
                     : INT_ITERATOR_CLASS_NAME;
+            wrappedMembers++;
             builder.addMethod(methodBuilder(methodName(name))
                     .addModifiers(PUBLIC)
                     .returns(generateType)
+                    .addCode(wrapMembers(wrappedMembers))
                     .beginControlFlow("if ($L != null)", iterator(name))
-                    .addStatement("$L.index = 0", iterator(name))
+                    .addStatement("$L.reset()", iterator(name))
                     .endControlFlow()
                     .addStatement("return $L",  iterator(name))
                     .build());
             if (sizeName != null)
             {
                 anchorLimit = dynamicLimit(name);
+                anchorWrappedMembers = wrappedMembers;
             }
         }
 
@@ -602,13 +494,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             String sizeName,
             Object defaultValue)
         {
-            CodeBlock.Builder codeBlock = CodeBlock.builder();
+            wrappedMembers++;
+            CodeBlock.Builder codeBlock = CodeBlock.builder().add(wrapMembers(wrappedMembers));
 
             if (DIRECT_BUFFER_TYPE.equals(type))
             {
                 MethodSpec.Builder consumerMethod = methodBuilder(methodName(name))
                         .addModifiers(PUBLIC)
                         .addParameter(IntBinaryOperator.class, "accessor")
+                        .addCode(wrapMembers(wrappedMembers))
                         .returns(type);
 
                 if (anchorLimit != null)
@@ -641,7 +535,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 codeBlock.addStatement("return $LRO", name);
             }
 
-            anchorLimit = name + "RO." + (DIRECT_BUFFER_TYPE.equals(type) ? "capacity()" : "limit()");
+            anchorLimit = DIRECT_BUFFER_TYPE.equals(type) ? name + "RO.capacity()" : dynamicLimit(name);
+            anchorWrappedMembers = wrappedMembers;
 
             builder.addMethod(methodBuilder(methodName(name))
                     .addModifiers(PUBLIC)
@@ -666,6 +561,11 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 throw new IllegalStateException("member type not supported: " + type);
             }
 
+            if (anchorLimit != null)
+            {
+                codeBlock.add(wrapMembers(anchorWrappedMembers));
+            }
+
             codeBlock.add("$[").add("return ");
 
             if (generateType != type)
@@ -726,6 +626,12 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .addCode(codeBlock.build())
                     .build());
         }
+
+        private CodeBlock wrapMembers(
+            int count)
+        {
+            return lazyWrap ? lazyWrapMembers(count) : CodeBlock.builder().build();
+        }
     }
 
     private final class LimitMethodGenerator extends MethodSpecGenerator
@@ -736,6 +642,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         private TypeName lastType;
         private int lastSize;
         private String lastSizeName;
+        private int wrappedMembers;
 
         private LimitMethodGenerator()
         {
@@ -757,6 +664,10 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 anchorName = name;
                 anchorType = type;
             }
+            if (!type.isPrimitive() || size != -1 || sizeName != null)
+            {
+                wrappedMembers++;
+            }
 
             lastName = name;
             lastType = type;
@@ -776,6 +687,10 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             else
             {
                 CodeBlock.Builder code = CodeBlock.builder();
+                if (lazyWrap && wrappedMembers != 0)
+                {
+                    code.add(lazyWrapMembers(wrappedMembers));
+                }
                 code.add("$[");
                 if (anchorName != null)
                 {
@@ -789,7 +704,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     }
                     else
                     {
-                        code.add("return $LRO.limit()", anchorName);
+                        code.add("return $L", dynamicLimit(anchorName));
                     }
                 }
                 else
@@ -820,6 +735,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         private final ClassName thisType;
         private String anchorLimit;
         private boolean limitDeclared;
+        private int wrappedMembers;
 
         private TryWrapMethodGenerator(
             ClassName thisType)
@@ -880,6 +796,16 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 addVariableIntegerArrayMember(name, type, unsignedType, sizeName);
             }
+            else
+            {
+                return this;
+            }
+
+            wrappedMembers++;
+            if (lazyWrap)
+            {
+                builder.addStatement("wrappedMembers = $L", wrappedMembers);
+            }
             return this;
         }
 
@@ -889,9 +815,6 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedType,
             int size)
         {
-            ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
-            TypeName targetType = (unsignedType != null) ? unsignedType : type;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             String offsetName;
             if (anchorLimit != null)
@@ -903,12 +826,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 offsetName = "offset + " + offset(name);
             }
-            code.add("$[")
-                .add("$L = new $T($S, $L, $L, $L, o -> ",
-                        iterator(name), iteratorClass, name, offsetName, size(name), arraySize(name));
-            addBufferGet(code, targetType, type, unsignedType, "o");
-            code.add(")")
-                .add(";\n$]");
+            code.addStatement("$L = $LRO.wrap($L, $L)", iterator(name), iterator(name), offsetName, arraySize(name));
 
             builder.addCode(code.build());
         }
@@ -919,11 +837,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedType,
             String sizeName)
         {
-            ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
             String offsetName = "offset" + initCap(name);
             String limitName = "limit" + initCap(name);
-            TypeName targetType = (unsignedType != null) ? unsignedType : type;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             if (anchorLimit != null)
             {
@@ -933,13 +848,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 code.addStatement("final int $L = offset + $L", offsetName, offset(name));
             }
-            code.add("$[")
-                .add("$L = $L() == -1 ? null :\n", iterator(name), methodName(sizeName))
-                .add("new $T($S, $L, $L, (int) $L(), o -> ",
-                    iteratorClass, name, offsetName, size(name), methodName(sizeName));
-            addBufferGet(code, targetType, type, unsignedType, "o");
-            code.add(")")
-                .add(";\n$]")
+            code.addStatement("$L = $L() == -1 ? null : $LRO.wrap($L, (int) $L())", iterator(name), methodName(sizeName),
+                        iterator(name), offsetName, methodName(sizeName))
                 .addStatement("$L = $L() == -1 ? $L : $L + $L * $L()", limitName, methodName(sizeName),
                         offsetName, offsetName, size(name), methodName(sizeName));
             builder.addCode(code.build());
@@ -1020,55 +930,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             name, offset(name));
                 }
             }
-            anchorLimit = name + "RO.limit()";
-        }
-
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetType,
-            TypeName type,
-            TypeName unsignedType,
-            String offset)
-        {
-            String getterName = GETTER_NAMES.get(type);
-            if (getterName == null)
-            {
-                throw new IllegalStateException("member type not supported: " + type);
-            }
-            if (targetType != type)
-            {
-                codeBlock.add("($T)(", targetType);
-            }
-
-            codeBlock.add("buffer().$L($L", getterName, offset);
-
-            if (targetType != type  && unsignedType != null)
-            {
-                if (type == TypeName.BYTE)
-                {
-                    codeBlock.add(") & 0xFF)");
-                }
-                else if (type == TypeName.SHORT)
-                {
-                    codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                }
-                else if (type == TypeName.INT)
-                {
-                    codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-            }
-            else
-            {
-                codeBlock.add(")");
-            }
-            if (targetType != type && unsignedType == null)
-            {
-                codeBlock.add(")");
-            }
+            builder.addStatement("$L = $LRO.limit()", dynamicLimit(name), name);
+            anchorLimit = dynamicLimit(name);
         }
 
         @Override
@@ -1083,20 +946,24 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     private final class WrapMethodGenerator extends MethodSpecGenerator
     {
         private final ClassName thisType;
+        private final String wrapName;
+        private final List<CodeBlock> wrappedMembers = new LinkedList<>();
         private String anchorLimit;
 
         private WrapMethodGenerator(
-            ClassName thisType)
+            ClassName thisType,
+            String wrapName)
         {
-            super(methodBuilder("wrap")
+            super(methodBuilder(wrapName)
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
                     .addParameter(DIRECT_BUFFER_TYPE, "buffer")
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "maxLimit")
                     .returns(thisName));
-            builder.addStatement("super.wrap(buffer, offset, maxLimit)");
+            builder.addStatement("super.$L(buffer, offset, maxLimit)", wrapName);
             this.thisType = thisType;
+            this.wrapName = wrapName;
         }
 
         public WrapMethodGenerator addMember(
@@ -1107,38 +974,81 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             String sizeName,
             Object defaultValue)
         {
+            CodeBlock.Builder code = CodeBlock.builder();
             if (DIRECT_BUFFER_TYPE.equals(type))
             {
                 // TODO: is this dead code? I can't find a case where type should be equal to DirectBuffer
                 // and we never get here during generation of the test idl during build
-                builder.addStatement("$LRO.wrap(buffer, offset + $L, maxLimit - (offset + $L))",
+                code.addStatement("$LRO.wrap(buffer, offset + $L, maxLimit - (offset + $L))",
                         name, offset(name), offset(name));
             }
             else if (!type.isPrimitive())
             {
-                addNonPrimitiveMember(name, type, unsignedType, size, sizeName, defaultValue);
+                addNonPrimitiveMember(code, name, type, unsignedType, size, sizeName, defaultValue);
             }
             else if (size != -1)
             {
-                addFixedIntegerArrayMember(name, type, unsignedType, size);
+                addFixedIntegerArrayMember(code, name, type, unsignedType, size);
             }
             else if (sizeName != null)
             {
-                addVariableIntegerArrayMember(name, type, unsignedType, sizeName);
+                addVariableIntegerArrayMember(code, name, type, unsignedType, sizeName);
+            }
+            else
+            {
+                return this;
+            }
+
+            if (lazyWrap)
+            {
+                wrappedMembers.add(code.build());
+            }
+            else
+            {
+                builder.addCode(code.build());
             }
             return this;
         }
 
+        public boolean hasWrappedMembers()
+        {
+            return !wrappedMembers.isEmpty();
+        }
+
+        public MethodSpec generateWrapMembers()
+        {
+            CodeBlock.Builder code = CodeBlock.builder()
+                    .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+                    .addStatement("final int offset = offset()")
+                    .addStatement("final int maxLimit = maxLimit()")
+                    .beginControlFlow("for (int index = wrappedMembers; index < count; index++)")
+                    .beginControlFlow("switch (index)");
+            for (int index = 0; index < wrappedMembers.size(); index++)
+            {
+                code.add("case $L:\n", index)
+                    .indent()
+                    .add(wrappedMembers.get(index))
+                    .addStatement("break")
+                    .unindent();
+            }
+            code.endControlFlow()
+                .addStatement("wrappedMembers = index + 1")
+                .endControlFlow();
+
+            return methodBuilder("wrapMembers")
+                    .addModifiers(PRIVATE)
+                    .addParameter(int.class, "count")
+                    .addCode(code.build())
+                    .build();
+        }
+
         private void addFixedIntegerArrayMember(
+            CodeBlock.Builder code,
             String name,
             TypeName type,
             TypeName unsignedType,
             int size)
         {
-            ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
-            TypeName targetType = (unsignedType != null) ? unsignedType : type;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
-            CodeBlock.Builder code = CodeBlock.builder();
             String offsetName;
             if (anchorLimit != null)
             {
@@ -1149,28 +1059,18 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 offsetName = "offset + " + offset(name);
             }
-            code.add("$[")
-                .add("$L = new $T($S, $L, $L, $L, o -> ",
-                        iterator(name), iteratorClass, name, offsetName, size(name), arraySize(name));
-            addBufferGet(code, targetType, type, unsignedType, "o");
-            code.add(")")
-                .add(";\n$]");
-
-            builder.addCode(code.build());
+            code.addStatement("$L = $LRO.wrap($L, $L)", iterator(name), iterator(name), offsetName, arraySize(name));
         }
 
         private void addVariableIntegerArrayMember(
+            CodeBlock.Builder code,
             String name,
             TypeName type,
             TypeName unsignedType,
             String sizeName)
         {
-            ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
             String offsetName = "offset" + initCap(name);
             String limitName = "limit" + initCap(name);
-            TypeName targetType = (unsignedType != null) ? unsignedType : type;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
-            CodeBlock.Builder code = CodeBlock.builder();
             if (anchorLimit != null)
             {
                 code.addStatement("final int $L = $L + $L", offsetName, anchorLimit, offset(name));
@@ -1179,20 +1079,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 code.addStatement("final int $L = offset + $L", offsetName, offset(name));
             }
-            code.add("$[")
-                .add("$L = $L() == -1 ? null :\n", iterator(name), methodName(sizeName))
-                .add("new $T($S, $L, $L, (int) $L(), o -> ",
-                    iteratorClass, name, offsetName, size(name), methodName(sizeName));
-            addBufferGet(code, targetType, type, unsignedType, "o");
-            code.add(")")
-                .add(";\n$]")
+            code.addStatement("$L = $L() == -1 ? null : $LRO.wrap($L, (int) $L())", iterator(name), methodName(sizeName),
+                        iterator(name), offsetName, methodName(sizeName))
                 .addStatement("$L = $L() == -1 ? $L : $L + $L * $L()", limitName, methodName(sizeName),
                         offsetName, offsetName, size(name), methodName(sizeName));
-            builder.addCode(code.build());
             anchorLimit = limitName;
         }
 
         private void addNonPrimitiveMember(
+            CodeBlock.Builder code,
             String name,
             TypeName type,
             TypeName unsignedType,
@@ -1204,132 +1099,96 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 if (size >= 0)
                 {
-                    builder.addStatement("$LRO.wrap(buffer, $L + $L, $L + $L + $L)",
-                            name, anchorLimit, offset(name), anchorLimit, offset(name), size);
+                    code.addStatement("$LRO.$L(buffer, $L + $L, $L + $L + $L)",
+                            name, wrapName, anchorLimit, offset(name), anchorLimit, offset(name), size);
                 }
                 else if (sizeName != null)
                 {
                     if (defaultValue == NULL_DEFAULT)
                     {
-                        builder.addStatement(
-                            "$LRO.wrap(buffer, $L + $L, $L + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
-                            name, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName),
+                        code.addStatement(
+                            "$LRO.$L(buffer, $L + $L, $L + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
+                            name, wrapName, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName),
                             methodName(sizeName));
                     }
                     else
                     {
-                        builder.addStatement("$LRO.wrap(buffer, $L + $L, $L + $L + (int) $L())",
-                            name, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName));
+                        code.addStatement("$LRO.$L(buffer, $L + $L, $L + $L + (int) $L())",
+                            name, wrapName, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName));
                     }
                 }
                 else
                 {
-                    builder.addStatement("$LRO.wrap(buffer, $L + $L, maxLimit)",
-                            name, anchorLimit, offset(name));
+                    code.addStatement("$LRO.$L(buffer, $L + $L, maxLimit)",
+                            name, wrapName, anchorLimit, offset(name));
                 }
             }
             else
             {
                 if (size >= 0)
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, offset + $L + $L)",
-                            name, offset(name), offset(name), size);
+                    code.addStatement("$LRO.$L(buffer, offset + $L, offset + $L + $L)",
+                            name, wrapName, offset(name), offset(name), size);
                 }
                 else if (sizeName != null)
                 {
                     if (defaultValue == NULL_DEFAULT)
                     {
-                        builder.addStatement(
-                                "$LRO.wrap(buffer, offset + $L, offset + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
-                                name, offset(name), offset(name), methodName(sizeName), methodName(sizeName));
+                        code.addStatement(
+                                "$LRO.$L(buffer, offset + $L, offset + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
+                                name, wrapName, offset(name), offset(name), methodName(sizeName), methodName(sizeName));
                     }
                     else
                     {
-                        builder.addStatement(
-                                "$LRO.wrap(buffer, offset + $L, offset + $L + (int) $L())",
-                                name, offset(name), offset(name), methodName(sizeName));
+                        code.addStatement(
+                                "$LRO.$L(buffer, offset + $L, offset + $L + (int) $L())",
+                                name, wrapName, offset(name), offset(name), methodName(sizeName));
                     }
                 }
                 else
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, maxLimit)",
-                            name, offset(name));
+                    code.addStatement("$LRO.$L(buffer, offset + $L, maxLimit)",
+                            name, wrapName, offset(name));
                 }
             }
-            anchorLimit = name + "RO.limit()";
+            code.addStatement("$L = $LRO.limit()", dynamicLimit(name), name);
+            anchorLimit = dynamicLimit(name);
         }
 
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetType,
-            TypeName type,
-            TypeName unsignedType,
-            String offset)
+        @Override
+        public MethodSpec generate()
         {
-            String getterName = GETTER_NAMES.get(type);
-            if (getterName == null)
+            if (lazyWrap)
             {
-                throw new IllegalStateException("member type not supported: " + type);
-            }
-            if (targetType != type)
-            {
-                codeBlock.add("($T)(", targetType);
-            }
-
-            codeBlock.add("buffer().$L($L", getterName, offset);
-
-            if (targetType != type  && unsignedType != null)
-            {
-                if (type == TypeName.BYTE)
-                {
-                    codeBlock.add(") & 0xFF)");
-                }
-                else if (type == TypeName.SHORT)
+                if (hasWrappedMembers())
                 {
-                    codeBlock.add(") & 0xFFFF)", ByteOrder.class);
+                    builder.addStatement("wrappedMembers = 0");
                 }
-                else if (type == TypeName.INT)
-                {
-                    codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-            }
-            else
-            {
-                codeBlock.add(")");
             }
-            if (targetType != type && unsignedType == null)
+            else if ("wrap".equals(wrapName))
             {
-                codeBlock.add(")");
+                builder.addStatement("checkLimit(limit(), maxLimit)");
             }
-        }
-
-        @Override
-        public MethodSpec generate()
-        {
-            return builder.addStatement("checkLimit(limit(), maxLimit)")
-                          .addStatement("return this")
+            return builder.addStatement("return this")
                           .build();
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
-        private final List<String> formats = new LinkedList<>();
-        private final List<String> args = new LinkedList<>();
+        private final CodeBlock.Builder members = CodeBlock.builder();
+        private boolean hasMembers;
 
-        private ToStringMethodGenerator()
+        private AppendToMethodGenerator()
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class));
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class));
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
             TypeName type,
             TypeName unsignedType,
@@ -1337,34 +1196,38 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             String sizeName)
         {
             boolean isArray = size != -1 || sizeName != null;
-            formats.add(String.format("%s=%%%s", name, type.isPrimitive() && !isArray ? "d" : "s"));
+            String prefix = String.format("%s%s=", hasMembers ? ", " : constant(baseName) + " [", name);
             if (type instanceof ClassName && isStringType((ClassName) type))
             {
-                args.add(String.format("%sRO.asString()", name));
+                members.addStatement("appendUtf8(builder.append($S), $L.value())", prefix,
+                        lazyWrap ? methodName(name) + "()" : name + "RO");
+            }
+            else if (isArray || !type.isPrimitive() && !isVarintType(type) && !DIRECT_BUFFER_TYPE.equals(type))
+            {
+                members.addStatement("append(builder.append($S), $L())", prefix, methodName(name));
             }
             else
             {
-                args.add(String.format("%s()", name));
+                members.addStatement("builder.append($S).append($L())", prefix, methodName(name));
             }
+            hasMembers = true;
             return this;
         }
 
         @Override
         public MethodSpec generate()
         {
-            String typeName = constant(baseName);
-            if (formats.isEmpty())
+            if (hasMembers)
             {
-                builder.addStatement("return $S", typeName);
+                builder.addCode(members.build())
+                       .addStatement("return builder.append(']')");
             }
             else
             {
-                String format = String.format("%s [%s]", typeName, String.join(", ", formats));
-                builder.addStatement("return String.format($S, $L)", format, String.join(", ", args));
+                builder.addStatement("return builder.append($S)", constant(baseName));
             }
             return builder.build();
         }
-
     }
 
     private static final class BuilderClassGenerator extends ClassSpecGenerator
@@ -3087,7 +2950,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return String.format("INDEX_%s", constant(fieldName));
     }
 
-    private static String initCap(String value)
+    private static CodeBlock lazyWrapMembers(
+        int count)
+    {
+        return CodeBlock.builder()
+                .beginControlFlow("if (wrappedMembers < $L)", count)
+                .addStatement("wrapMembers($L)", count)
+                .endControlFlow()
+                .build();
+    }
+
+    static String initCap(String value)
     {
         return Character.toUpperCase(value.charAt(0)) + value.substring(1);
     }
@@ -3121,22 +2994,70 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return "limit" + initCap(fieldName);
     }
 
+    private static void addBufferGet(
+        CodeBlock.Builder codeBlock,
+        TypeName targetType,
+        TypeName type,
+        TypeName unsignedType,
+        String offset)
+    {
+        String getterName = GETTER_NAMES.get(type);
+        if (getterName == null)
+        {
+            throw new IllegalStateException("member type not supported: " + type);
+        }
+        if (targetType != type)
+        {
+            codeBlock.add("($T)(", targetType);
+        }
+
+        codeBlock.add("buffer().$L($L", getterName, offset);
+
+        if (targetType != type  && unsignedType != null)
+        {
+            if (type == TypeName.BYTE)
+            {
+                codeBlock.add(") & 0xFF)");
+            }
+            else if (type == TypeName.SHORT)
+            {
+                codeBlock.add(") & 0xFFFF)", ByteOrder.class);
+            }
+            else if (type == TypeName.INT)
+            {
+                codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
+            }
+            else
+            {
+                codeBlock.add(")");
+            }
+        }
+        else
+        {
+            codeBlock.add(")");
+        }
+        if (targetType != type && unsignedType == null)
+        {
+            codeBlock.add(")");
+        }
+    }
+
     private static String iterator(String fieldName)
     {
         return "iterator" + initCap(fieldName);
     }
 
     private static ClassName iteratorClass(
-        ClassName structName,
+        ClassName flyweightName,
         TypeName type,
         TypeName unsignedType)
     {
         TypeName generateType = (unsignedType != null) ? unsignedType : type;
-        return generateType == TypeName.LONG ? structName.nestedClass("LongPrimitiveIterator")
-                : structName.nestedClass("IntPrimitiveIterator");
+        return generateType == TypeName.LONG ? flyweightName.nestedClass("LongPrimitiveIterator")
+                : flyweightName.nestedClass("IntPrimitiveIterator");
     }
 
-    private static String methodName(String name)
+    static String methodName(String name)
     {
         return RESERVED_METHOD_NAMES.contains(name) ? name + "$" : name;
     }
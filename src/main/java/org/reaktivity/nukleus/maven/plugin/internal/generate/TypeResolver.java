@@ -42,9 +42,16 @@ public final class TypeResolver
 
     public TypeResolver(
         String packageName)
+    {
+        this(packageName, packageName);
+    }
+
+    public TypeResolver(
+        String packageName,
+        String runtimePackageName)
     {
         this.structsByName = new HashMap<>();
-        this.namesByType = initNamesByType(packageName);
+        this.namesByType = initNamesByType(runtimePackageName);
         this.packageName = packageName;
     }
 
@@ -59,6 +66,12 @@ public final class TypeResolver
         return structNode;
     }
 
+    public boolean isStruct(
+        String qualifiedName)
+    {
+        return structsByName.containsKey(qualifiedName);
+    }
+
     public ClassName flyweightName()
     {
         return (ClassName) namesByType.get(AstType.STRUCT);
@@ -84,23 +97,23 @@ public final class TypeResolver
     }
 
     private static Map<AstType, TypeName> initNamesByType(
-        String packageName)
+        String runtimePackageName)
     {
         Map<AstType, TypeName> namesByType = new HashMap<>();
-        namesByType.put(AstType.STRUCT, ClassName.get(packageName, "Flyweight"));
-        namesByType.put(AstType.STRING, ClassName.get(packageName, "StringFW"));
-        namesByType.put(AstType.STRING16, ClassName.get(packageName, "String16FW"));
-        namesByType.put(AstType.LIST, ClassName.get(packageName, "ListFW"));
-        namesByType.put(AstType.ARRAY, ClassName.get(packageName, "ArrayFW"));
-        namesByType.put(AstType.OCTETS, ClassName.get(packageName, "OctetsFW"));
+        namesByType.put(AstType.STRUCT, ClassName.get(runtimePackageName, "Flyweight"));
+        namesByType.put(AstType.STRING, ClassName.get(runtimePackageName, "StringFW"));
+        namesByType.put(AstType.STRING16, ClassName.get(runtimePackageName, "String16FW"));
+        namesByType.put(AstType.LIST, ClassName.get(runtimePackageName, "ListFW"));
+        namesByType.put(AstType.ARRAY, ClassName.get(runtimePackageName, "ArrayFW"));
+        namesByType.put(AstType.OCTETS, ClassName.get(runtimePackageName, "OctetsFW"));
         namesByType.put(AstType.INT8, TypeName.BYTE);
         namesByType.put(AstType.UINT8, TypeName.BYTE);
         namesByType.put(AstType.INT16, TypeName.SHORT);
         namesByType.put(AstType.UINT16, TypeName.SHORT);
         namesByType.put(AstType.INT32, TypeName.INT);
         namesByType.put(AstType.UINT32, TypeName.INT);
-        namesByType.put(AstType.VARINT32, ClassName.get(packageName, "Varint32FW"));
-        namesByType.put(AstType.VARINT64, ClassName.get(packageName, "Varint64FW"));
+        namesByType.put(AstType.VARINT32, ClassName.get(runtimePackageName, "Varint32FW"));
+        namesByType.put(AstType.VARINT64, ClassName.get(runtimePackageName, "Varint64FW"));
         namesByType.put(AstType.INT64, TypeName.LONG);
         namesByType.put(AstType.UINT64, TypeName.LONG);
         return namesByType;
@@ -60,8 +60,9 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
     private final MemberAccessorGenerator memberAccessor;
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
+    private final WrapMethodGenerator wrapUncheckedMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public UnionFlyweightGenerator(
@@ -80,9 +81,10 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         this.kindAccessor = new KindAccessorGenerator(unionName, builder);
         this.memberAccessor = new MemberAccessorGenerator(unionName, flyweightName.nestedClass("Visitor"), builder);
         this.tryWrapMethod = new TryWrapMethodGenerator();
-        this.wrapMethod = new WrapMethodGenerator();
+        this.wrapMethod = new WrapMethodGenerator("wrap");
+        this.wrapUncheckedMethod = new WrapMethodGenerator("wrapUnchecked");
         this.limitMethod = new LimitMethodGenerator();
-        this.toStringMethod = new ToStringMethodGenerator();
+        this.appendToMethod = new AppendToMethodGenerator();
         this.builderClass = new BuilderClassGenerator(unionName, flyweightName);
     }
 
@@ -102,8 +104,9 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         memberAccessor.addMember(name, type, unsignedType);
         tryWrapMethod.addMember(name, type, size, sizeName);
         wrapMethod.addMember(name, type, size, sizeName);
+        wrapUncheckedMethod.addMember(name, type, size, sizeName);
         limitMethod.addMember(name, type);
-        toStringMethod.addMember(name, type);
+        appendToMethod.addMember(name, type);
         builderClass.addMember(name, type, size, sizeName);
         return this;
     }
@@ -120,8 +123,9 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
 
         return builder.addMethod(tryWrapMethod.generate())
                       .addMethod(wrapMethod.generate())
+                      .addMethod(wrapUncheckedMethod.generate())
                       .addMethod(limitMethod.generate())
-                      .addMethod(toStringMethod.generate())
+                      .addMethod(appendToMethod.generate())
                       .addType(builderClass.generate())
                       .build();
     }
@@ -512,17 +516,21 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
 
     private final class WrapMethodGenerator extends MethodSpecGenerator
     {
-        private WrapMethodGenerator()
+        private final String wrapName;
+
+        private WrapMethodGenerator(
+            String wrapName)
         {
-            super(methodBuilder("wrap")
+            super(methodBuilder(wrapName)
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
                     .addParameter(DIRECT_BUFFER_TYPE, "buffer")
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "maxLimit")
                     .returns(thisName)
-                    .addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .addStatement("super.$L(buffer, offset, maxLimit)", wrapName)
                     .beginControlFlow("switch (kind())"));
+            this.wrapName = wrapName;
         }
 
         public WrapMethodGenerator addMember(
@@ -542,17 +550,17 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
             {
                 if (size >= 0)
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, offset + $L + $L)",
-                            name, offset(name), offset(name), size);
+                    builder.addStatement("$LRO.$L(buffer, offset + $L, offset + $L + $L)",
+                            name, wrapName, offset(name), offset(name), size);
                 }
                 else if (sizeName != null)
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, offset + $L + $L())",
-                            name, offset(name), offset(name), sizeName);
+                    builder.addStatement("$LRO.$L(buffer, offset + $L, offset + $L + $L())",
+                            name, wrapName, offset(name), offset(name), sizeName);
                 }
                 else
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, maxLimit)", name, offset(name));
+                    builder.addStatement("$LRO.$L(buffer, offset + $L, maxLimit)", name, wrapName, offset(name));
                 }
             }
 
@@ -564,44 +572,49 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         @Override
         public MethodSpec generate()
         {
-            return builder.beginControlFlow("default:")
-                          .addStatement("break")
-                          .endControlFlow()
-                          .endControlFlow()
-                          .addStatement("checkLimit(limit(), maxLimit)")
-                          .addStatement("return this")
+            builder.beginControlFlow("default:")
+                   .addStatement("break")
+                   .endControlFlow()
+                   .endControlFlow();
+            if ("wrap".equals(wrapName))
+            {
+                builder.addStatement("checkLimit(limit(), maxLimit)");
+            }
+            return builder.addStatement("return this")
                           .build();
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
-        private ToStringMethodGenerator()
+        private AppendToMethodGenerator()
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class)
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class)
                     .beginControlFlow("switch (kind())"));
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
             TypeName type)
         {
+            String prefix = String.format("%s [%s=", baseName.toUpperCase(), name);
             builder.beginControlFlow("case $L:", kind(name));
             if (type instanceof ClassName && "StringFW".equals(((ClassName) type).simpleName())
                 || type instanceof ClassName && "String16FW".equals(((ClassName) type).simpleName()))
             {
-                builder.addStatement("return String.format(\"$L [$L=%s]\", $LRO.asString())", baseName.toUpperCase(), name, name);
+                builder.addStatement("return appendUtf8(builder.append($S), $LRO.value()).append(']')", prefix, name);
             }
-            else if (type.isPrimitive())
+            else if (type.isPrimitive() || DIRECT_BUFFER_TYPE.equals(type))
             {
-                builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", baseName.toUpperCase(), name, name);
+                builder.addStatement("return builder.append($S).append($L()).append(']')", prefix, name);
             }
             else
             {
-                builder.addStatement("return String.format(\"$L [$L=%s]\", $L())", baseName.toUpperCase(), name, name);
+                builder.addStatement("return append(builder.append($S), $L()).append(']')", prefix, name);
             }
             builder.endControlFlow();
             return this;
@@ -611,7 +624,7 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         public MethodSpec generate()
         {
             builder.beginControlFlow("default:")
-                .addStatement("return String.format(\"$L [unknown]\")", baseName.toUpperCase())
+                .addStatement("return builder.append($S)", baseName.toUpperCase() + " [unknown]")
                 .endControlFlow();
 
             return builder.endControlFlow()
@@ -54,7 +54,8 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                            .addMethod(valueMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
-                           .addMethod(toStringMethod())
+                           .addMethod(wrapUncheckedMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(length0Method())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -136,13 +137,29 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
-    private MethodSpec toStringMethod()
+    private MethodSpec wrapUncheckedMethod()
     {
-        return methodBuilder("toString")
+        return methodBuilder("wrapUnchecked")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class)
-                .addStatement("return Long.toString(value())")
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("super.wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("size = length0()")
+                .addStatement("return this")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append(value())")
                 .build();
     }
 
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BenchMojoTest
+{
+    private static final String HEADER =
+            "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\"";
+    private static final String BENCHMARK = "org.reaktivity.reaktor.internal.test.types.inner.UnionOctetsFWBM.wrap";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private BenchMojo bench;
+    private List<String> command;
+    private double score;
+
+    @Before
+    public void initBench() throws Exception
+    {
+        bench = new BenchMojo();
+        bench.project = new MavenProject()
+        {
+            @Override
+            public List<String> getTestClasspathElements()
+            {
+                return asList("classes", "test-classes");
+            }
+        };
+        bench.includes = "UnionOctetsFWBM.wrap";
+        bench.jmhArgs = "-f 0 -wi 0 -i 1 -r 100ms";
+        bench.threshold = 10.0;
+        bench.baselineFile = new File(folder.getRoot(), "baseline/bench.csv");
+        bench.resultsFile = new File(folder.getRoot(), "results/bench.csv");
+        bench.runner = c ->
+        {
+            command = c;
+            writeResults(new File(c.get(c.indexOf("-rff") + 1)), score);
+            return 0;
+        };
+        score = 1000.0;
+    }
+
+    @Test
+    public void shouldRunJmhOnTestClasspath() throws Exception
+    {
+        bench.execute();
+
+        assertEquals(asList("-cp", "classes" + File.pathSeparator + "test-classes", "org.openjdk.jmh.Main",
+                "UnionOctetsFWBM.wrap", "-rf", "csv", "-rff", bench.resultsFile.getPath(),
+                "-f", "0", "-wi", "0", "-i", "1", "-r", "100ms"), command.subList(1, command.size()));
+        assertEquals(1, BenchmarkResults.load(bench.resultsFile).scores().size());
+    }
+
+    @Test
+    public void shouldNotStoreMissingBaseline() throws Exception
+    {
+        bench.execute();
+
+        assertFalse(bench.baselineFile.exists());
+        assertTrue(bench.resultsFile.isFile());
+    }
+
+    @Test
+    public void shouldStoreBaselineWhenUpdating() throws Exception
+    {
+        bench.updateBaseline = true;
+
+        bench.execute();
+
+        assertTrue(bench.baselineFile.isFile());
+        assertEquals(1, BenchmarkResults.load(bench.baselineFile).scores().size());
+    }
+
+    @Test(expected = MojoFailureException.class)
+    public void shouldFailWhenThroughputRegresses() throws Exception
+    {
+        writeResults(bench.baselineFile, Double.MAX_VALUE);
+
+        bench.execute();
+    }
+
+    @Test
+    public void shouldPassWhenThroughputIsWithinThreshold() throws Exception
+    {
+        writeResults(bench.baselineFile, 1050.0);
+
+        bench.execute();
+    }
+
+    @Test(expected = MojoExecutionException.class)
+    public void shouldFailWhenJmhFails() throws Exception
+    {
+        bench.runner = c -> 1;
+
+        bench.execute();
+    }
+
+    @Test
+    public void shouldSkip() throws Exception
+    {
+        bench.skip = true;
+
+        bench.execute();
+
+        assertFalse(bench.resultsFile.exists());
+    }
+
+    private static void writeResults(
+        File file,
+        double score) throws IOException
+    {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), asList(HEADER,
+                String.format("\"%s\",\"thrpt\",1,1,%s,NaN,\"ops/s\"", BENCHMARK, score)), UTF_8);
+    }
+}
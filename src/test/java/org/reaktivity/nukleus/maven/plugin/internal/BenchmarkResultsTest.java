@@ -0,0 +1,87 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BenchmarkResultsTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadPrimaryScoresWithParameters() throws Exception
+    {
+        File file = folder.newFile("bench.csv");
+        Files.write(file.toPath(), asList(
+                "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\"," +
+                    "\"Param: scopes\",\"Param: structs\"",
+                "\"example.GeneratorBM.resolve\",\"thrpt\",1,3,332.985717,NaN,\"ops/s\",1,10",
+                "\"example.GeneratorBM.resolve:·gc.alloc.rate\",\"thrpt\",1,3,5.490735,NaN,\"MB/sec\",1,10",
+                "\"example.GeneratorBM.parse\",\"avgt\",1,3,12.5,0.1,\"ms/op\",\"10\",\"1,000\""), UTF_8);
+
+        BenchmarkResults results = BenchmarkResults.load(file);
+
+        assertEquals(asList("example.GeneratorBM.parse {scopes=10, structs=1,000}",
+                "example.GeneratorBM.resolve {scopes=1, structs=10}"), asList(results.scores().keySet().toArray()));
+        BenchmarkResults.Score score = results.scores().get("example.GeneratorBM.resolve {scopes=1, structs=10}");
+        assertEquals("thrpt", score.mode());
+        assertEquals(332.985717, score.value(), 0.0);
+        assertEquals("ops/s", score.unit());
+    }
+
+    @Test
+    public void shouldReportThroughputRegressionBeyondThreshold() throws Exception
+    {
+        BenchmarkResults baseline = new BenchmarkResults()
+                .score("FlatFWBM.build", "thrpt", 1000.0, "ops/s")
+                .score("FlatFWBM.wrap", "thrpt", 1000.0, "ops/s")
+                .score("FlatFWBM.removed", "thrpt", 1000.0, "ops/s");
+        BenchmarkResults results = new BenchmarkResults()
+                .score("FlatFWBM.build", "thrpt", 850.0, "ops/s")
+                .score("FlatFWBM.wrap", "thrpt", 950.0, "ops/s")
+                .score("FlatFWBM.added", "thrpt", 1.0, "ops/s");
+
+        List<String> regressions = results.regressions(baseline, 10.0);
+
+        assertEquals(asList("FlatFWBM.build: 850.000 ops/s against baseline 1000.000 ops/s (-15.0%)"), regressions);
+    }
+
+    @Test
+    public void shouldReportAverageTimeRegressionBeyondThreshold() throws Exception
+    {
+        BenchmarkResults baseline = new BenchmarkResults()
+                .score("FlatFWBM.build", "avgt", 100.0, "ns/op")
+                .score("FlatFWBM.wrap", "avgt", 100.0, "ns/op");
+        BenchmarkResults results = new BenchmarkResults()
+                .score("FlatFWBM.build", "avgt", 125.0, "ns/op")
+                .score("FlatFWBM.wrap", "avgt", 50.0, "ns/op");
+
+        assertEquals(1, results.regressions(baseline, 20.0).size());
+        assertEquals(emptyList(), results.regressions(baseline, 30.0));
+    }
+}
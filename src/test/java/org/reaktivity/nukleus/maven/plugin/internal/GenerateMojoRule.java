@@ -24,6 +24,7 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 public class GenerateMojoRule extends MojoRule
 {
@@ -61,6 +62,30 @@ public class GenerateMojoRule extends MojoRule
         return this;
     }
 
+    GenerateMojoRule manifestFile(String manifestFile)
+    {
+        configuration.addChild("manifestFile", manifestFile);
+        return this;
+    }
+
+    GenerateMojoRule reportFile(String reportFile)
+    {
+        configuration.addChild("reportFile", reportFile);
+        return this;
+    }
+
+    GenerateMojoRule threads(int threads)
+    {
+        configuration.addChild("threads", Integer.toString(threads));
+        return this;
+    }
+
+    GenerateMojoRule buildContext(BuildContext buildContext)
+    {
+        mojo.buildContext = buildContext;
+        return this;
+    }
+
     public void generate() throws Exception
     {
         configureMojo(mojo, configuration);
@@ -15,10 +15,25 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.codehaus.plexus.util.Scanner;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
+import org.sonatype.plexus.build.incremental.DefaultBuildContext;
+import org.sonatype.plexus.build.incremental.EmptyScanner;
 
 public class GenerateMojoTest
 {
@@ -26,7 +41,8 @@ public class GenerateMojoTest
     public GenerateMojoRule generator = new GenerateMojoRule()
             .packageName("org.reaktivity.reaktor.internal.test.types")
             .inputDirectory("src/test/resources/test-project")
-            .outputDirectory("target/generated-test-sources/test-reaktivity");
+            .outputDirectory("target/generated-test-sources/test-reaktivity")
+            .manifestFile("target/reaktivity/generate.manifest");
 
     public GenerateMojoTest() throws Exception
     {
@@ -41,6 +57,127 @@ public class GenerateMojoTest
             .generate();
     }
 
+    @Test
+    public void shouldRegenerateOnlyMissingTypes()
+        throws Exception
+    {
+        File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
+        File flat = new File(outputDirectory, "org/reaktivity/reaktor/internal/test/types/inner/FlatFW.java");
+        File nested = new File(outputDirectory, "org/reaktivity/reaktor/internal/test/types/inner/NestedFW.java");
+
+        generator.scopeNames("test")
+            .generate();
+
+        assertTrue(flat.setLastModified(1000L));
+        assertTrue(nested.delete());
+
+        generator.generate();
+
+        assertTrue(nested.isFile());
+        assertEquals(1000L, flat.lastModified());
+    }
+
+    @Test
+    public void shouldRefreshOnlyWrittenSources()
+        throws Exception
+    {
+        File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
+        File nested = new File(outputDirectory, "org/reaktivity/reaktor/internal/test/types/inner/NestedFW.java");
+        IncrementalBuildContext buildContext = new IncrementalBuildContext(false, true);
+
+        generator.scopeNames("test")
+            .generate();
+
+        assertTrue(nested.delete());
+
+        generator.buildContext(buildContext)
+            .generate();
+
+        assertEquals(singletonList(nested), buildContext.refreshed);
+    }
+
+    @Test
+    public void shouldSkipIncrementalBuildWithoutIdlChanges()
+        throws Exception
+    {
+        File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
+        File nested = new File(outputDirectory, "org/reaktivity/reaktor/internal/test/types/inner/NestedFW.java");
+
+        generator.scopeNames("test")
+            .generate();
+
+        assertTrue(nested.delete());
+
+        generator.buildContext(new IncrementalBuildContext(true, false))
+            .generate();
+
+        assertFalse(nested.exists());
+
+        generator.buildContext(new IncrementalBuildContext(true, true))
+            .generate();
+
+        assertTrue(nested.isFile());
+    }
+
+    @Test
+    public void shouldWriteGenerationReport()
+        throws Exception
+    {
+        File manifest = new File("target/reaktivity/generate.manifest");
+        File report = new File("target/reaktivity/generate-report.json");
+        Files.deleteIfExists(manifest.toPath());
+        Files.deleteIfExists(report.toPath());
+
+        generator.scopeNames("test")
+            .reportFile(report.getPath())
+            .generate();
+
+        String content = new String(Files.readAllBytes(report.toPath()), UTF_8);
+        assertTrue(content.contains("\"parse\": "));
+        assertTrue(content.contains("\"struct\": "));
+        assertTrue(content.contains("\"member.uint8\": "));
+        assertTrue(content.contains("\"org.reaktivity.reaktor.internal.test.types.inner.FlatFW\": { \"generateNanos\""));
+    }
+
+    @Test
+    public void shouldNotRewriteUnchangedSources()
+        throws Exception
+    {
+        File manifest = new File("target/reaktivity/generate.manifest");
+        File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
+        File flat = new File(outputDirectory, "org/reaktivity/reaktor/internal/test/types/inner/FlatFW.java");
+
+        generator.scopeNames("test")
+            .generate();
+
+        assertTrue(flat.setLastModified(1000L));
+        Files.deleteIfExists(manifest.toPath());
+
+        generator.generate();
+
+        assertEquals(1000L, flat.lastModified());
+    }
+
+    @Test
+    public void shouldGenerateTestIdlInParallel()
+        throws Exception
+    {
+        File manifest = new File("target/reaktivity/generate.manifest");
+        File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
+        File flat = new File(outputDirectory, "org/reaktivity/reaktor/internal/test/types/inner/FlatFW.java");
+
+        Files.deleteIfExists(manifest.toPath());
+        generator.scopeNames("test")
+            .generate();
+        byte[] expected = Files.readAllBytes(flat.toPath());
+
+        Files.deleteIfExists(manifest.toPath());
+        generator.threads(4)
+            .generate();
+
+        assertArrayEquals(expected, Files.readAllBytes(flat.toPath()));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotGenerateInvalidIntArrayLengthHasDefault()
         throws Exception
@@ -90,4 +227,40 @@ public class GenerateMojoTest
             .generate();
     }
 
+
+    private static final class IncrementalBuildContext extends DefaultBuildContext
+    {
+        private final boolean incremental;
+        private final boolean changed;
+        private final List<File> refreshed;
+
+        private IncrementalBuildContext(
+            boolean incremental,
+            boolean changed)
+        {
+            this.incremental = incremental;
+            this.changed = changed;
+            this.refreshed = new ArrayList<>();
+        }
+
+        @Override
+        public boolean isIncremental()
+        {
+            return incremental;
+        }
+
+        @Override
+        public Scanner newScanner(
+            File basedir)
+        {
+            return changed ? super.newScanner(basedir) : new EmptyScanner(basedir);
+        }
+
+        @Override
+        public void refresh(
+            File file)
+        {
+            refreshed.add(file);
+        }
+    }
 }
@@ -0,0 +1,460 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GeneratorTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(timeout = 30000)
+    public void shouldRegenerateChangedTypesWhileWatching() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        File resource = new File(inputDirectory, "alpha.idl");
+        File alpha = new File(outputDirectory, "org/example/types/AlphaFW.java");
+        File beta = new File(outputDirectory, "org/example/types/BetaFW.java");
+        write(resource, "scope alpha { struct Alpha { uint8 a; } struct Beta { uint8 b; } }");
+
+        List<String> messages = new CopyOnWriteArrayList<>();
+        Generator generator = new Generator();
+        generator.info(messages::add);
+        generator.setScopeNames("alpha");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+
+        Thread watcher = new Thread(() ->
+        {
+            try
+            {
+                generator.watch();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (IOException ex)
+            {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        watcher.start();
+
+        try
+        {
+            await(() -> messages.stream().anyMatch(m -> m.startsWith("Watching ")));
+            String generated = new String(Files.readAllBytes(alpha.toPath()), UTF_8);
+            assertTrue(beta.setLastModified(1000L));
+
+            write(resource, "scope alpha { struct Alpha { uint16 a; } struct Beta { uint8 b; } }");
+            await(() -> messages.stream().filter(m -> m.startsWith("Regenerated in ")).count() == 2L);
+
+            assertNotEquals(generated, new String(Files.readAllBytes(alpha.toPath()), UTF_8));
+            assertEquals(1000L, beta.lastModified());
+        }
+        finally
+        {
+            watcher.interrupt();
+            watcher.join();
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void shouldWatchNestedResourceDirectories() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File nested = new File(inputDirectory, "nested");
+        assertTrue(nested.mkdir());
+        write(new File(inputDirectory, "alpha.idl"), "scope alpha { struct Alpha { uint8 a; } }");
+        write(new File(nested, "beta.idl"), "scope beta { struct Beta { uint8 b; } }");
+
+        List<String> messages = new CopyOnWriteArrayList<>();
+        Generator generator = new Generator();
+        generator.info(messages::add);
+        generator.setScopeNames("alpha");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(folder.newFolder("output"));
+
+        Thread watcher = new Thread(() ->
+        {
+            try
+            {
+                generator.watch();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (IOException ex)
+            {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        watcher.start();
+
+        try
+        {
+            await(() -> messages.stream().anyMatch(m -> m.startsWith("Watching ")));
+
+            write(new File(nested, "beta.idl"), "scope beta { struct Beta { uint16 b; } }");
+            await(() -> messages.stream().filter(m -> m.startsWith("Regenerated in ")).count() == 2L);
+
+            File created = new File(nested, "created");
+            assertTrue(created.mkdir());
+            await(() -> messages.stream().filter(m -> m.startsWith("Regenerated in ")).count() == 3L);
+
+            write(new File(created, "gamma.idl"), "scope gamma { struct Gamma { uint8 c; } }");
+            await(() -> messages.stream().filter(m -> m.startsWith("Regenerated in ")).count() == 4L);
+        }
+        finally
+        {
+            watcher.interrupt();
+            watcher.join();
+        }
+    }
+
+    @Test
+    public void shouldReferenceSharedRuntimeTypes() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        write(new File(inputDirectory, "alpha.idl"), "scope alpha { struct Alpha { string a; } }");
+
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.setScopeNames("alpha");
+        generator.setPackageName("org.example.types");
+        generator.setRuntimePackageName("org.example.runtime");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.generate();
+
+        File alpha = new File(outputDirectory, "org/example/types/AlphaFW.java");
+        String generated = new String(Files.readAllBytes(alpha.toPath()), UTF_8);
+        assertTrue(generated.contains("import org.example.runtime.Flyweight;"));
+        assertTrue(generated.contains("import org.example.runtime.StringFW;"));
+        assertFalse(new File(outputDirectory, "org/example/types/Flyweight.java").exists());
+        assertFalse(new File(outputDirectory, "org/example/runtime").exists());
+    }
+
+    @Test
+    public void shouldGenerateSharedRuntimeWithoutScopes() throws Exception
+    {
+        File outputDirectory = folder.newFolder("output");
+
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.setScopeNames("");
+        generator.setPackageName("org.example.runtime");
+        generator.setInputDirectory(folder.newFolder("input"));
+        generator.setOutputDirectory(outputDirectory);
+        generator.generate();
+
+        File runtime = new File(outputDirectory, "org/example/runtime");
+        assertEquals(8, runtime.list().length);
+        assertTrue(new File(runtime, "Flyweight.java").isFile());
+    }
+
+    @Test
+    public void shouldSkipSharedRuntimeWithoutScopesWhenUpToDate() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        File manifestFile = new File(folder.getRoot(), "manifest.properties");
+
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.setScopeNames("");
+        generator.setPackageName("org.example.runtime");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setManifestFile(manifestFile);
+        generator.generate();
+
+        List<String> infos = new CopyOnWriteArrayList<>();
+        Generator rebuild = new Generator();
+        rebuild.info(infos::add);
+        rebuild.setScopeNames("");
+        rebuild.setPackageName("org.example.runtime");
+        rebuild.setInputDirectory(inputDirectory);
+        rebuild.setOutputDirectory(outputDirectory);
+        rebuild.setManifestFile(manifestFile);
+        rebuild.generate();
+
+        assertTrue(infos.toString(), infos.stream().anyMatch(m -> m.startsWith("Sources up to date")));
+
+        List<String> lazyInfos = new CopyOnWriteArrayList<>();
+        Generator lazy = new Generator();
+        lazy.info(lazyInfos::add);
+        lazy.setScopeNames("");
+        lazy.setPackageName("org.example.runtime");
+        lazy.setLazyWrap(true);
+        lazy.setInputDirectory(inputDirectory);
+        lazy.setOutputDirectory(outputDirectory);
+        lazy.setManifestFile(manifestFile);
+        lazy.generate();
+
+        assertFalse(lazyInfos.toString(), lazyInfos.stream().anyMatch(m -> m.startsWith("Sources up to date")));
+    }
+
+    @Test
+    public void shouldShareIntegerArrayIterators() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        write(new File(inputDirectory, "alpha.idl"),
+                "scope alpha { struct Alpha { uint8[2] a; int64[2] b; } struct Beta { int16[4] c; } }");
+
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.setScopeNames("alpha");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.generate();
+
+        File types = new File(outputDirectory, "org/example/types");
+        String flyweight = new String(Files.readAllBytes(new File(types, "Flyweight.java").toPath()), UTF_8);
+        assertTrue(flyweight.contains("protected static final class IntPrimitiveIterator"));
+        assertTrue(flyweight.contains("protected static final class LongPrimitiveIterator"));
+        for (String struct : asList("AlphaFW", "BetaFW"))
+        {
+            String generated = new String(Files.readAllBytes(new File(types, struct + ".java").toPath()), UTF_8);
+            assertTrue(generated.contains("private Flyweight.IntPrimitiveIterator"));
+            assertFalse(generated.contains("class IntPrimitiveIterator"));
+            assertFalse(generated.contains("class LongPrimitiveIterator"));
+        }
+    }
+
+    @Test
+    public void shouldPruneTypesUnreachableFromRootTypes() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        File reportFile = new File(folder.getRoot(), "report.json");
+        write(new File(inputDirectory, "alpha.idl"),
+                "scope alpha\n" +
+                "{\n" +
+                "    enum Kind { FIRST, SECOND }\n" +
+                "    struct Base { uint8 a; }\n" +
+                "    struct Item extends alpha::Base { string name; }\n" +
+                "    struct Holder { list<alpha::Item> items; }\n" +
+                "    struct Choice { uint8 c; }\n" +
+                "    union Switch switch (uint8) { case 1: alpha::Choice choice; }\n" +
+                "    struct Unused { uint8 u; }\n" +
+                "}\n");
+
+        List<String> warnings = new CopyOnWriteArrayList<>();
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.warn(warnings::add);
+        generator.setScopeNames("alpha");
+        generator.setRootTypes("alpha::Holder alpha::Switch alpha::Missing");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setReportFile(reportFile);
+        generator.generate();
+
+        File types = new File(outputDirectory, "org/example/types");
+        for (String kept : asList("HolderFW", "ItemFW", "BaseFW", "SwitchFW", "ChoiceFW", "Flyweight", "ListFW"))
+        {
+            assertTrue(kept, new File(types, kept + ".java").isFile());
+        }
+        for (String pruned : asList("UnusedFW", "KindFW", "Kind"))
+        {
+            assertFalse(pruned, new File(types, pruned + ".java").exists());
+        }
+        assertEquals(asList("Root type alpha::Missing not found"), warnings);
+
+        String report = new String(Files.readAllBytes(reportFile.toPath()), UTF_8);
+        assertTrue(report.contains("\"pruned\": [\n    \"org.example.types.Kind\",\n    \"org.example.types.KindFW\",\n" +
+                "    \"org.example.types.UnusedFW\"\n  ]"));
+    }
+
+    @Test
+    public void shouldReportPreviousSourceSizes() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        File reportFile = new File(folder.getRoot(), "report.json");
+        write(new File(inputDirectory, "alpha.idl"),
+                "scope alpha\n" +
+                "{\n" +
+                "    struct Item { uint8 a; }\n" +
+                "}\n");
+
+        List<String> infos = new CopyOnWriteArrayList<>();
+        Generator generator = new Generator();
+        generator.info(infos::add);
+        generator.setScopeNames("alpha");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setReportFile(reportFile);
+        generator.generate();
+
+        String report = new String(Files.readAllBytes(reportFile.toPath()), UTF_8);
+        assertTrue(report.contains("\"previousSize\": -1"));
+        assertFalse(infos.stream().anyMatch(m -> m.contains("previously")));
+
+        write(new File(inputDirectory, "alpha.idl"),
+                "scope alpha\n" +
+                "{\n" +
+                "    struct Item { uint8 a; uint16 b; }\n" +
+                "}\n");
+        infos.clear();
+        generator.generate();
+
+        File item = new File(outputDirectory, "org/example/types/ItemFW.java");
+        report = new String(Files.readAllBytes(reportFile.toPath()), UTF_8);
+        assertFalse(report.contains("\"previousSize\": -1"));
+        assertTrue(report.contains(String.format("\"size\": %d", item.length())));
+        assertTrue(infos.stream().anyMatch(m -> m.contains("previously")));
+    }
+
+    @Test
+    public void shouldGenerateBenchmarksForSupportedTypes() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        File outputDirectory = folder.newFolder("output");
+        write(new File(inputDirectory, "alpha.idl"),
+                "scope alpha\n" +
+                "{\n" +
+                "    enum Kind { FIRST, SECOND }\n" +
+                "    struct Base { uint8 flags = 1; int64 timestamp; }\n" +
+                "    struct Item extends alpha::Base { string name; varint32 length; octets[length] payload; }\n" +
+                "    struct Holder { alpha::Item item; list<string> tags; int16[2] pair; }\n" +
+                "    struct Kinded { alpha::Kind kind; }\n" +
+                "    union Switch switch (uint8) { case 1: alpha::Kinded kinded; case 2: string text; }\n" +
+                "}\n");
+
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.setScopeNames("alpha");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setBenchmarks(true);
+        generator.generate();
+
+        File types = new File(outputDirectory, "org/example/types");
+        for (String benchmark : asList("BaseFWBM", "ItemFWBM", "HolderFWBM", "SwitchFWBM"))
+        {
+            assertTrue(benchmark, new File(types, benchmark + ".java").isFile());
+        }
+        assertFalse(new File(types, "KindedFWBM.java").exists());
+        assertFalse(new File(types, "KindFWBM.java").exists());
+
+        String holder = new String(Files.readAllBytes(new File(types, "HolderFWBM.java").toPath()), UTF_8);
+        assertTrue(holder.contains("@Benchmark"));
+        assertTrue(holder.contains(".item(n0 -> n0.flags("));
+        assertTrue(holder.contains(".tagsItem(i0 -> i0.set(VALUES, "));
+        assertTrue(holder.contains(".appendPair((short) "));
+
+        String item = new String(Files.readAllBytes(new File(types, "ItemFWBM.java").toPath()), UTF_8);
+        int length = Integer.parseInt(item.replaceAll("(?s).*\\.length\\((\\d+)\\).*", "$1"));
+        assertTrue(item.matches(String.format("(?s).*\\.payload\\(VALUES, \\d+, %d\\).*", length)));
+
+        String union = new String(Files.readAllBytes(new File(types, "SwitchFWBM.java").toPath()), UTF_8);
+        assertTrue(union.contains(".text(\""));
+        assertTrue(union.contains("blackhole.consume(flyweight.kind());"));
+    }
+
+    @Test(timeout = 300000)
+    public void shouldStreamLargeScopeWithoutRetainingGenerators() throws Exception
+    {
+        int structs = 10_000;
+        int threads = 4;
+        File inputDirectory = folder.newFolder("input");
+        StringBuilder idl = new StringBuilder("scope large\n{\n");
+        for (int i = 0; i < structs; i++)
+        {
+            idl.append(String.format("    struct Struct%d { uint8 kind; int64 timestamp; string name; " +
+                    "uint16 length; octets[length] payload; }\n", i));
+        }
+        idl.append("}\n");
+        write(new File(inputDirectory, "large.idl"), idl.toString());
+
+        Generator generator = new Generator();
+        generator.info(m ->
+        { });
+        generator.setScopeNames("large");
+        generator.setPackageName("org.example.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(folder.newFolder("output"));
+        generator.setThreads(threads);
+
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger maxPending = new AtomicInteger();
+        generator.refresh(f ->
+        {
+            written.incrementAndGet();
+            maxPending.accumulateAndGet(generator.pendingSources(), Math::max);
+        });
+
+        generator.generate();
+
+        assertEquals(structs + 8, written.get());
+        assertTrue(String.format("pending %d generators", maxPending.get()), maxPending.get() <= threads * 8);
+        assertEquals(0, generator.pendingSources());
+    }
+
+    private static void await(
+        BooleanSupplier condition) throws InterruptedException
+    {
+        while (!condition.getAsBoolean())
+        {
+            Thread.sleep(10L);
+        }
+    }
+
+    private static void write(
+        File file,
+        String content) throws IOException
+    {
+        Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.Consumer;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.bench.SyntheticIdl;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.parse.AstParser;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusLexer;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.SpecificationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ParserBM
+{
+    private static final Consumer<String> NO_OP = (s) ->
+    { };
+
+    @Param({ "10", "100" })
+    private int scopes;
+
+    @Param({ "100" })
+    private int structs;
+
+    private String[] corpus;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        corpus = SyntheticIdl.corpus(scopes, structs);
+    }
+
+    @Benchmark
+    public int parseLL()
+    {
+        int count = 0;
+        for (String specification : corpus)
+        {
+            count += parse(specification, PredictionMode.LL).scope().structs().size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int parseTwoStage()
+    {
+        int count = 0;
+        for (String specification : corpus)
+        {
+            count += parseTwoStage(specification).scope().structs().size();
+        }
+        return count;
+    }
+
+    public static AstSpecificationNode parseTwoStage(
+        String specification)
+    {
+        return Parser.parseSpecification("benchmark.idl", specification, NO_OP);
+    }
+
+    private static AstSpecificationNode parse(
+        String specification,
+        PredictionMode mode)
+    {
+        NukleusLexer lexer = new NukleusLexer(CharStreams.fromString(specification));
+        NukleusParser parser = new NukleusParser(new CommonTokenStream(lexer));
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(mode);
+        SpecificationContext ctx = parser.specification();
+        return new AstParser().visitSpecification(ctx);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ParserBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
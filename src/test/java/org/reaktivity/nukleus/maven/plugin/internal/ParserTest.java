@@ -0,0 +1,180 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+
+public class ParserTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassLoader loader;
+
+    @Before
+    public void writeResources() throws Exception
+    {
+        File inputDirectory = folder.getRoot();
+        write(inputDirectory, "alpha.idl", "scope alpha { struct Alpha extends beta::Beta { uint8 a; } }");
+        write(inputDirectory, "beta.idl", "scope beta { struct Beta { uint8 b; } }");
+        write(inputDirectory, "gamma.idl", "scope gamma { struct Gamma { uint8 c; } }");
+
+        loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() }, null);
+    }
+
+    @Test
+    public void shouldParseReferencedScopesInDiscoveryOrder() throws Exception
+    {
+        List<AstSpecificationNode> specifications = new Parser().parseAST(asList("alpha", "gamma"), loader);
+
+        assertEquals(asList("alpha", "gamma", "beta"), scopeNames(specifications));
+    }
+
+    @Test
+    public void shouldParseConcurrentlyInDiscoveryOrder() throws Exception
+    {
+        List<AstSpecificationNode> expected = new Parser().parseAST(asList("alpha", "gamma"), loader);
+        List<AstSpecificationNode> actual = new Parser().threads(4).parseAST(asList("alpha", "gamma"), loader);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void shouldParseArchivedResourcesFromCache() throws Exception
+    {
+        ClassLoader archiveLoader = newArchiveLoader();
+        File cacheDirectory = folder.newFolder("cache");
+
+        List<AstSpecificationNode> expected = new Parser().parseAST(asList("delta"), archiveLoader);
+        List<AstSpecificationNode> parsed = new Parser().cacheDirectory(cacheDirectory)
+                                                        .parseAST(asList("delta"), archiveLoader);
+        List<AstSpecificationNode> cached = new Parser().cacheDirectory(cacheDirectory)
+                                                        .parseAST(asList("delta"), archiveLoader);
+
+        assertEquals(expected, parsed);
+        assertEquals(expected, cached);
+        assertEquals(1, cacheDirectory.list().length);
+    }
+
+    @Test
+    public void shouldParseWhenCacheIsNotWritable() throws Exception
+    {
+        ClassLoader archiveLoader = newArchiveLoader();
+        File cacheDirectory = folder.newFile("cache");
+        List<String> warnings = new ArrayList<>();
+
+        List<AstSpecificationNode> expected = new Parser().parseAST(asList("delta"), archiveLoader);
+        List<AstSpecificationNode> parsed = new Parser().cacheDirectory(cacheDirectory)
+                                                        .warn(warnings::add)
+                                                        .parseAST(asList("delta"), archiveLoader);
+
+        assertEquals(expected, parsed);
+        assertEquals(1, warnings.size());
+    }
+
+    @Test
+    public void shouldShareParsedResourcesWithinSession() throws Exception
+    {
+        SessionCache sessionCache = new SessionCache();
+
+        List<AstSpecificationNode> first = new Parser().sessionCache(sessionCache)
+                                                       .parseAST(asList("alpha"), loader);
+        List<AstSpecificationNode> second = new Parser().sessionCache(sessionCache)
+                                                        .threads(2)
+                                                        .parseAST(asList("alpha", "gamma"), loader);
+
+        assertEquals(asList("alpha", "gamma", "beta"), scopeNames(second));
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(1), second.get(2));
+    }
+
+    @Test
+    public void shouldNotShareModifiedResourcesWithinSession() throws Exception
+    {
+        SessionCache sessionCache = new SessionCache();
+
+        List<AstSpecificationNode> first = new Parser().sessionCache(sessionCache)
+                                                       .parseAST(asList("gamma"), loader);
+        write(folder.getRoot(), "gamma.idl", "scope gamma { struct Gamma { uint16 c; } }");
+        List<AstSpecificationNode> second = new Parser().sessionCache(sessionCache)
+                                                        .parseAST(asList("gamma"), loader);
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void shouldEvictModifiedResourcesWithinSession() throws Exception
+    {
+        SessionCache sessionCache = new SessionCache();
+
+        new Parser().sessionCache(sessionCache).parseAST(asList("gamma"), loader);
+        for (int size = 2; size < 6; size++)
+        {
+            write(folder.getRoot(), "gamma.idl", String.format("scope gamma { struct Gamma { uint8[%d] c; } }", size));
+            new Parser().sessionCache(sessionCache).parseAST(asList("gamma"), loader);
+        }
+
+        assertEquals(1, sessionCache.size());
+    }
+
+    private static List<String> scopeNames(
+        List<AstSpecificationNode> specifications)
+    {
+        return specifications.stream().map(s -> s.scope().name()).collect(toList());
+    }
+
+    private static void write(
+        File directory,
+        String resourceName,
+        String content) throws Exception
+    {
+        Files.write(new File(directory, resourceName).toPath(), content.getBytes(UTF_8));
+    }
+
+    private ClassLoader newArchiveLoader() throws Exception
+    {
+        File archive = folder.newFile("delta.jar");
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(archive)))
+        {
+            jar.putNextEntry(new JarEntry("META-INF/reaktivity/delta.idl"));
+            jar.write("scope delta { struct Delta { uint8 d; } }".getBytes(UTF_8));
+            jar.closeEntry();
+        }
+        URL archiveURL = new URL(String.format("jar:%s!/META-INF/reaktivity/", archive.toURI()));
+        return new URLClassLoader(new URL[] { archiveURL }, null);
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ResourceIndexTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ClassLoader parent = getClass().getClassLoader();
+    private final List<String> warnings = new ArrayList<>();
+
+    @Test
+    public void shouldIndexDirectoryResources() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        write(new File(inputDirectory, "alpha.idl"), "scope alpha { }");
+        write(new File(inputDirectory, "README"), "not a resource");
+
+        ResourceIndex index = new ResourceIndex(parent, warnings::add).directory(inputDirectory);
+
+        assertEquals(1, index.size());
+        assertEquals("scope alpha { }", read(index.getResource("alpha.idl")));
+        assertNull(index.getResource("README"));
+    }
+
+    @Test
+    public void shouldIndexArchiveResources() throws Exception
+    {
+        File archive = archive("beta.jar", "META-INF/reaktivity/beta.idl", "scope beta { }");
+
+        ResourceIndex index = new ResourceIndex(parent, warnings::add).archive(archive);
+
+        URL resource = index.getResource("beta.idl");
+        assertEquals("jar", resource.getProtocol());
+        assertEquals("scope beta { }", read(resource));
+    }
+
+    @Test
+    public void shouldIgnoreMissingAndNonArchiveEntries() throws Exception
+    {
+        ResourceIndex index = new ResourceIndex(parent, warnings::add)
+                .directory(new File(folder.getRoot(), "missing"))
+                .archive(folder.newFolder("classes"))
+                .archive(new File(folder.getRoot(), "missing.jar"));
+
+        assertEquals(0, index.size());
+        assertTrue(warnings.isEmpty());
+    }
+
+    @Test
+    public void shouldPreferFirstIndexedResourceAndWarnOnDuplicate() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        write(new File(inputDirectory, "gamma.idl"), "scope gamma { struct First { uint8 a; } }");
+        File archive = archive("gamma.jar", "META-INF/reaktivity/gamma.idl", "scope gamma { }");
+
+        ResourceIndex index = new ResourceIndex(parent, warnings::add)
+                .directory(inputDirectory)
+                .archive(archive);
+
+        assertEquals("scope gamma { struct First { uint8 a; } }", read(index.getResource("gamma.idl")));
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).contains("gamma.idl"));
+    }
+
+    @Test
+    public void shouldDelegateOtherLookupsToParent() throws Exception
+    {
+        File inputDirectory = folder.newFolder("input");
+        write(new File(inputDirectory, "alpha.idl"), "scope alpha { }");
+
+        ResourceIndex index = new ResourceIndex(parent, warnings::add).directory(inputDirectory);
+
+        String className = ResourceIndexTest.class.getName();
+        assertEquals(parent.getResource(className.replace('.', '/') + ".class"),
+                index.getResource(className.replace('.', '/') + ".class"));
+        assertSame(ResourceIndexTest.class, index.loadClass(className));
+        assertEquals("scope alpha { }", read(index.getResource("alpha.idl")));
+    }
+
+    private File archive(
+        String archiveName,
+        String entryName,
+        String content) throws Exception
+    {
+        File archive = folder.newFile(archiveName);
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(archive)))
+        {
+            jar.putNextEntry(new JarEntry(entryName));
+            jar.write(content.getBytes(UTF_8));
+            jar.closeEntry();
+        }
+        return archive;
+    }
+
+    private static void write(
+        File file,
+        String content) throws Exception
+    {
+        Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+
+    private static String read(
+        URL resource) throws Exception
+    {
+        try (InputStream input = resource.openStream())
+        {
+            return new String(input.readAllBytes(), UTF_8);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.parse.AstParser;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusLexer;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser;
+
+public class TypeFingerprintsTest
+{
+    private static final String MUTUAL =
+            "scope alpha\n" +
+            "{\n" +
+            "    struct Left { uint8 a; alpha::Right right; }\n" +
+            "    struct Right { uint8 b; alpha::Left left; }\n" +
+            "}\n";
+
+    @Test
+    public void shouldChangeBothFingerprintsWhenMutualReferenceChanges()
+    {
+        TypeFingerprints before = newFingerprints(MUTUAL);
+        TypeFingerprints after = newFingerprints(MUTUAL.replace("uint8 b;", "uint16 b;"));
+
+        assertNotEquals(before.fingerprint("alpha::Left"), after.fingerprint("alpha::Left"));
+        assertNotEquals(before.fingerprint("alpha::Right"), after.fingerprint("alpha::Right"));
+    }
+
+    @Test
+    public void shouldFingerprintMutualReferencesIndependentOfOrder()
+    {
+        TypeFingerprints leftFirst = newFingerprints(MUTUAL);
+        String left = leftFirst.fingerprint("alpha::Left");
+        String right = leftFirst.fingerprint("alpha::Right");
+
+        TypeFingerprints rightFirst = newFingerprints(MUTUAL);
+        assertEquals(right, rightFirst.fingerprint("alpha::Right"));
+        assertEquals(left, rightFirst.fingerprint("alpha::Left"));
+        assertNotEquals(left, right);
+    }
+
+    @Test
+    public void shouldNotChangeFingerprintOfTypesOutsideCycle()
+    {
+        String idl =
+                "scope alpha\n" +
+                "{\n" +
+                "    struct Left { uint8 a; alpha::Right right; }\n" +
+                "    struct Right { uint8 b; alpha::Left left; }\n" +
+                "    struct Other { uint8 c; }\n" +
+                "    struct User { alpha::Left left; }\n" +
+                "}\n";
+        TypeFingerprints before = newFingerprints(idl);
+        TypeFingerprints after = newFingerprints(idl.replace("uint8 b;", "uint16 b;"));
+
+        assertEquals(before.fingerprint("alpha::Other"), after.fingerprint("alpha::Other"));
+        assertNotEquals(before.fingerprint("alpha::User"), after.fingerprint("alpha::User"));
+    }
+
+    private static TypeFingerprints newFingerprints(
+        String idl)
+    {
+        NukleusLexer lexer = new NukleusLexer(CharStreams.fromString(idl));
+        NukleusParser parser = new NukleusParser(new CommonTokenStream(lexer));
+        return new TypeFingerprints("test", singletonList(new AstParser().visitSpecification(parser.specification())));
+    }
+}
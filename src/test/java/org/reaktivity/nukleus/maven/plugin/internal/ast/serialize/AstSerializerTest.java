@@ -0,0 +1,93 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.ast.serialize;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMemberNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.parse.AstParser;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusLexer;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser;
+
+public class AstSerializerTest
+{
+    @Test
+    public void shouldRoundTripTestSpecification() throws Exception
+    {
+        AstSpecificationNode expected = parse("src/test/resources/test-project/test.idl");
+
+        AstSpecificationNode actual = roundTrip(expected);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void shouldRoundTripDerivedMemberState() throws Exception
+    {
+        AstSpecificationNode expected = parse("src/test/resources/test-project/test.idl");
+
+        AstSpecificationNode actual = roundTrip(expected);
+
+        AstStructNode expectedStruct = expected.scope().scopes().get(0).structs().get(4);
+        AstStructNode actualStruct = actual.scope().scopes().get(0).structs().get(4);
+        for (int i = 0; i < expectedStruct.members().size(); i++)
+        {
+            AstMemberNode expectedMember = expectedStruct.members().get(i);
+            AstMemberNode actualMember = actualStruct.members().get(i);
+            assertEquals(expectedMember.sizeType(), actualMember.sizeType());
+            assertEquals(expectedMember.usedAsSize(), actualMember.usedAsSize());
+            assertEquals(expectedMember.isArray(), actualMember.isArray());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectUnrecognizedFormat() throws Exception
+    {
+        byte[] bytes = new byte[] { 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01 };
+        new AstSerializer().deserialize(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private static AstSpecificationNode roundTrip(
+        AstSpecificationNode specification) throws IOException
+    {
+        AstSerializer serializer = new AstSerializer();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        serializer.serialize(specification, new DataOutputStream(bytes));
+        return serializer.deserialize(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static AstSpecificationNode parse(
+        String fileName) throws IOException
+    {
+        NukleusLexer lexer = new NukleusLexer(CharStreams.fromPath(Paths.get(fileName)));
+        NukleusParser parser = new NukleusParser(new CommonTokenStream(lexer));
+        parser.setErrorHandler(new BailErrorStrategy());
+        return new AstParser().visitSpecification(parser.specification());
+    }
+}
@@ -35,6 +35,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -135,6 +136,7 @@ public class FlyweightBM
     {
         Options opt = new OptionsBuilder()
                 .include(FlyweightBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
                 .forks(0)
                 .build();
 
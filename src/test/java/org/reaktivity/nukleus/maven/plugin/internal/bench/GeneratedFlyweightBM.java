@@ -0,0 +1,722 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.ArrayFW;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithListFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerFixedArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.Roll;
+import org.reaktivity.reaktor.internal.test.types.inner.RollFW;
+import org.reaktivity.reaktor.internal.test.types.inner.UnionOctetsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class GeneratedFlyweightBM
+{
+    private static final int CAPACITY = 1024;
+
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer nestedBuffer;
+    private MutableDirectBuffer unionOctetsBuffer;
+    private MutableDirectBuffer flatWithListBuffer;
+    private MutableDirectBuffer integerFixedArraysBuffer;
+    private MutableDirectBuffer integerVariableArraysBuffer;
+    private MutableDirectBuffer varint32Buffer;
+    private MutableDirectBuffer varint64Buffer;
+    private MutableDirectBuffer string16Buffer;
+    private MutableDirectBuffer varint64ArrayBuffer;
+    private MutableDirectBuffer rollBuffer;
+
+    private int nestedLimit;
+    private int unionOctetsLimit;
+    private int flatWithListLimit;
+    private int integerFixedArraysLimit;
+    private int integerVariableArraysLimit;
+    private int varint32Limit;
+    private int varint64Limit;
+    private int string16Limit;
+    private String string16Value;
+    private int varint64ArrayLimit;
+    private int rollLimit;
+
+    private final NestedFW.Builder nestedRW = new NestedFW.Builder();
+    private final NestedFW nestedRO = new NestedFW();
+    private final NestedFW nestedCopyRO = new NestedFW();
+    private final org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW lazyNestedRO =
+            new org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW();
+
+    private final UnionOctetsFW.Builder unionOctetsRW = new UnionOctetsFW.Builder();
+    private final UnionOctetsFW unionOctetsRO = new UnionOctetsFW();
+
+    private final FlatWithListFW.Builder flatWithListRW = new FlatWithListFW.Builder();
+    private final FlatWithListFW flatWithListRO = new FlatWithListFW();
+    private final FlatWithListFW flatWithListCopyRO = new FlatWithListFW();
+
+    private final IntegerFixedArraysFW.Builder integerFixedArraysRW = new IntegerFixedArraysFW.Builder();
+    private final IntegerFixedArraysFW integerFixedArraysRO = new IntegerFixedArraysFW();
+
+    private final IntegerVariableArraysFW.Builder integerVariableArraysRW = new IntegerVariableArraysFW.Builder();
+    private final IntegerVariableArraysFW integerVariableArraysRO = new IntegerVariableArraysFW();
+
+    private final Varint32FW.Builder varint32RW = new Varint32FW.Builder();
+    private final Varint32FW varint32RO = new Varint32FW();
+
+    private final Varint64FW.Builder varint64RW = new Varint64FW.Builder();
+    private final Varint64FW varint64RO = new Varint64FW();
+
+    private final String16FW.Builder string16RW = new String16FW.Builder();
+    private final String16FW string16RO = new String16FW();
+
+    private final ArrayFW.Builder<Varint64FW.Builder, Varint64FW> varint64ArrayRW =
+            new ArrayFW.Builder<>(new Varint64FW.Builder(), new Varint64FW());
+    private final ArrayFW<Varint64FW> varint64ArrayRO = new ArrayFW<>(new Varint64FW());
+
+    private final RollFW.Builder rollRW = new RollFW.Builder();
+    private final RollFW rollRO = new RollFW();
+    private final StringBuilder text = new StringBuilder(1024);
+
+    private Consumer<FlatFW.Builder> flatMutator;
+    private Consumer<OctetsFW.Builder> octets4Mutator;
+    private Consumer<StringFW.Builder> list1ItemMutator;
+    private Consumer<ArrayFW.Builder<Varint32FW.Builder, Varint32FW>> varint32ArrayMutator;
+    private Consumer<ArrayFW.Builder<Varint64FW.Builder, Varint64FW>> varint64ArrayMutator;
+    private Consumer<Varint64FW> varint64Consumer;
+    private long varint64Sum;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        buffer = newBuffer();
+        values = newBuffer();
+        values.putStringWithoutLengthUtf8(0, "value1.............................................................");
+
+        flatMutator = f -> f.fixed1(10).fixed2(20).string1(values, 0, 10).fixed3(30).string2(values, 10, 10);
+        octets4Mutator = o -> o.set(values, 0, 4);
+        list1ItemMutator = s -> s.set(values, 0, 10);
+        varint32ArrayMutator = a -> a.item(v -> v.set(-1)).item(v -> v.set(1));
+        varint64ArrayMutator = a -> a.item(v -> v.set(12L)).item(v -> v.set(-12L));
+        varint64Consumer = v -> varint64Sum += v.value();
+
+        nestedBuffer = newBuffer();
+        nestedLimit = buildNested(nestedBuffer);
+        nestedRO.wrap(nestedBuffer, 0, nestedLimit);
+        nestedCopyRO.wrap(nestedBuffer, nestedLimit, buildNestedAt(nestedBuffer, nestedLimit));
+
+        unionOctetsBuffer = newBuffer();
+        unionOctetsLimit = buildUnionOctets(unionOctetsBuffer);
+
+        flatWithListBuffer = newBuffer();
+        flatWithListLimit = buildFlatWithList(flatWithListBuffer, 0);
+        flatWithListRO.wrap(flatWithListBuffer, 0, flatWithListLimit);
+        flatWithListCopyRO.wrap(flatWithListBuffer, flatWithListLimit,
+                buildFlatWithList(flatWithListBuffer, flatWithListLimit));
+
+        integerFixedArraysBuffer = newBuffer();
+        integerFixedArraysLimit = buildIntegerFixedArrays(integerFixedArraysBuffer);
+
+        integerVariableArraysBuffer = newBuffer();
+        integerVariableArraysLimit = buildIntegerVariableArrays(integerVariableArraysBuffer);
+
+        varint32Buffer = newBuffer();
+        varint32Limit = buildVarint32(varint32Buffer);
+
+        varint64Buffer = newBuffer();
+        varint64Limit = buildVarint64(varint64Buffer);
+
+        string16Buffer = newBuffer();
+        string16Limit = buildString16(string16Buffer);
+        string16Value = values.getStringWithoutLengthUtf8(0, 64);
+
+        varint64ArrayBuffer = newBuffer();
+        varint64ArrayLimit = buildVarint64Array(varint64ArrayBuffer);
+
+        rollBuffer = newBuffer();
+        rollLimit = buildRoll(rollBuffer);
+    }
+
+    @Benchmark
+    public int nestedWrap()
+    {
+        return nestedRO.wrap(nestedBuffer, 0, nestedLimit).limit();
+    }
+
+    @Benchmark
+    public long nestedWrapFixed()
+    {
+        return nestedRO.wrap(nestedBuffer, 0, nestedLimit).fixed4();
+    }
+
+    @Benchmark
+    public int nestedWrapUnchecked()
+    {
+        return nestedRO.wrapUnchecked(nestedBuffer, 0, nestedLimit).limit();
+    }
+
+    @Benchmark
+    public int nestedSizeof()
+    {
+        return nestedCopyRO.sizeof();
+    }
+
+    @Benchmark
+    public long nestedFixedAfterAnchor()
+    {
+        return nestedCopyRO.fixed5();
+    }
+
+    @Benchmark
+    public int lazyNestedWrap()
+    {
+        return lazyNestedRO.wrap(nestedBuffer, 0, nestedLimit).limit();
+    }
+
+    @Benchmark
+    public long lazyNestedWrapFixed()
+    {
+        return lazyNestedRO.wrap(nestedBuffer, 0, nestedLimit).fixed4();
+    }
+
+    @Benchmark
+    public NestedFW nestedTryWrap()
+    {
+        return nestedRO.tryWrap(nestedBuffer, 0, nestedLimit);
+    }
+
+    @Benchmark
+    public void nestedRead(
+        Blackhole blackhole)
+    {
+        NestedFW nested = nestedRO.wrap(nestedBuffer, 0, nestedLimit);
+        FlatFW flat = nested.flat();
+        blackhole.consume(nested.fixed4());
+        blackhole.consume(flat.fixed1());
+        blackhole.consume(flat.fixed2());
+        blackhole.consume(flat.string1().sizeof());
+        blackhole.consume(flat.fixed3());
+        blackhole.consume(flat.string2().sizeof());
+        blackhole.consume(nested.fixed5());
+    }
+
+    @Benchmark
+    public void lazyNestedRead(
+        Blackhole blackhole)
+    {
+        org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW nested =
+                lazyNestedRO.wrap(nestedBuffer, 0, nestedLimit);
+        org.reaktivity.reaktor.internal.test.types.lazy.inner.FlatFW flat = nested.flat();
+        blackhole.consume(nested.fixed4());
+        blackhole.consume(flat.fixed1());
+        blackhole.consume(flat.fixed2());
+        blackhole.consume(flat.string1().sizeof());
+        blackhole.consume(flat.fixed3());
+        blackhole.consume(flat.string2().sizeof());
+        blackhole.consume(nested.fixed5());
+    }
+
+    @Benchmark
+    public int nestedBuild()
+    {
+        return buildNested(buffer);
+    }
+
+    @Benchmark
+    public boolean nestedEquals()
+    {
+        return nestedRO.equals(nestedCopyRO);
+    }
+
+    @Benchmark
+    public int nestedHashCode()
+    {
+        return nestedRO.hashCode();
+    }
+
+    @Benchmark
+    public int nestedAppendTo()
+    {
+        text.setLength(0);
+        return nestedRO.appendTo(text).length();
+    }
+
+    @Benchmark
+    public int nestedToString()
+    {
+        return nestedRO.toString().length();
+    }
+
+    @Benchmark
+    public int unionOctetsWrap()
+    {
+        return unionOctetsRO.wrap(unionOctetsBuffer, 0, unionOctetsLimit).limit();
+    }
+
+    @Benchmark
+    public UnionOctetsFW unionOctetsTryWrap()
+    {
+        return unionOctetsRO.tryWrap(unionOctetsBuffer, 0, unionOctetsLimit);
+    }
+
+    @Benchmark
+    public int unionOctetsRead()
+    {
+        UnionOctetsFW unionOctets = unionOctetsRO.wrap(unionOctetsBuffer, 0, unionOctetsLimit);
+        return unionOctets.kind() == UnionOctetsFW.KIND_OCTETS4 ? unionOctets.octets4().sizeof() : 0;
+    }
+
+    @Benchmark
+    public int unionOctetsBuild()
+    {
+        return buildUnionOctets(buffer);
+    }
+
+    @Benchmark
+    public int flatWithListWrap()
+    {
+        return flatWithListRO.wrap(flatWithListBuffer, 0, flatWithListLimit).limit();
+    }
+
+    @Benchmark
+    public FlatWithListFW flatWithListTryWrap()
+    {
+        return flatWithListRO.tryWrap(flatWithListBuffer, 0, flatWithListLimit);
+    }
+
+    @Benchmark
+    public void flatWithListRead(
+        Blackhole blackhole)
+    {
+        FlatWithListFW flatWithList = flatWithListRO.wrap(flatWithListBuffer, 0, flatWithListLimit);
+        blackhole.consume(flatWithList.fixed1());
+        blackhole.consume(flatWithList.string1().sizeof());
+        blackhole.consume(flatWithList.list1().sizeof());
+        blackhole.consume(flatWithList.fixed2());
+    }
+
+    @Benchmark
+    public int flatWithListBuild()
+    {
+        return buildFlatWithList(buffer, 0);
+    }
+
+    @Benchmark
+    public boolean flatWithListEquals()
+    {
+        return flatWithListRO.equals(flatWithListCopyRO);
+    }
+
+    @Benchmark
+    public int flatWithListHashCode()
+    {
+        return flatWithListRO.hashCode();
+    }
+
+    @Benchmark
+    public int integerFixedArraysWrap()
+    {
+        return integerFixedArraysRO.wrap(integerFixedArraysBuffer, 0, integerFixedArraysLimit).limit();
+    }
+
+    @Benchmark
+    public IntegerFixedArraysFW integerFixedArraysTryWrap()
+    {
+        return integerFixedArraysRO.tryWrap(integerFixedArraysBuffer, 0, integerFixedArraysLimit);
+    }
+
+    @Benchmark
+    public long integerFixedArraysRead()
+    {
+        IntegerFixedArraysFW integerFixedArrays =
+                integerFixedArraysRO.wrap(integerFixedArraysBuffer, 0, integerFixedArraysLimit);
+        long sum = integerFixedArrays.anchor().sizeof();
+        sum += sum(integerFixedArrays.uint8Array());
+        sum += sum(integerFixedArrays.uint16Array());
+        sum += sum(integerFixedArrays.uint32Array());
+        sum += sum(integerFixedArrays.uint64Array());
+        sum += sum(integerFixedArrays.int8Array());
+        sum += sum(integerFixedArrays.int16Array());
+        sum += sum(integerFixedArrays.int32Array());
+        sum += sum(integerFixedArrays.int64Array());
+        return sum;
+    }
+
+    @Benchmark
+    public int integerFixedArraysBuild()
+    {
+        return buildIntegerFixedArrays(buffer);
+    }
+
+    @Benchmark
+    public int integerVariableArraysWrap()
+    {
+        return integerVariableArraysRO.wrap(integerVariableArraysBuffer, 0, integerVariableArraysLimit).limit();
+    }
+
+    @Benchmark
+    public IntegerVariableArraysFW integerVariableArraysTryWrap()
+    {
+        return integerVariableArraysRO.tryWrap(integerVariableArraysBuffer, 0, integerVariableArraysLimit);
+    }
+
+    @Benchmark
+    public long integerVariableArraysRead()
+    {
+        IntegerVariableArraysFW integerVariableArrays =
+                integerVariableArraysRO.wrap(integerVariableArraysBuffer, 0, integerVariableArraysLimit);
+        long sum = integerVariableArrays.fixed1() + integerVariableArrays.fixed2();
+        sum += integerVariableArrays.varint32Array().sizeof();
+        sum += sum(integerVariableArrays.unsigned64Array());
+        sum += sum(integerVariableArrays.signed16Array());
+        sum += integerVariableArrays.varint64Array().sizeof();
+        sum += sum(integerVariableArrays.arrayWithInt8Size());
+        sum += sum(integerVariableArrays.arrayWithInt16Size());
+        return sum;
+    }
+
+    @Benchmark
+    public int integerVariableArraysBuild()
+    {
+        return buildIntegerVariableArrays(buffer);
+    }
+
+    @Benchmark
+    public int varint32Wrap()
+    {
+        return varint32RO.wrap(varint32Buffer, 0, varint32Limit).value();
+    }
+
+    @Benchmark
+    public Varint32FW varint32TryWrap()
+    {
+        return varint32RO.tryWrap(varint32Buffer, 0, varint32Limit);
+    }
+
+    @Benchmark
+    public int varint32Build()
+    {
+        return buildVarint32(buffer);
+    }
+
+    @Benchmark
+    public long varint64Wrap()
+    {
+        return varint64RO.wrap(varint64Buffer, 0, varint64Limit).value();
+    }
+
+    @Benchmark
+    public Varint64FW varint64TryWrap()
+    {
+        return varint64RO.tryWrap(varint64Buffer, 0, varint64Limit);
+    }
+
+    @Benchmark
+    public int varint64Build()
+    {
+        return buildVarint64(buffer);
+    }
+
+    @Benchmark
+    public int string16Wrap()
+    {
+        return string16RO.wrap(string16Buffer, 0, string16Limit).limit();
+    }
+
+    @Benchmark
+    public String16FW string16TryWrap()
+    {
+        return string16RO.tryWrap(string16Buffer, 0, string16Limit);
+    }
+
+    @Benchmark
+    public int string16Read()
+    {
+        return string16RO.wrap(string16Buffer, 0, string16Limit).value().capacity();
+    }
+
+    @Benchmark
+    public boolean string16AsStringEquals()
+    {
+        return string16Value.equals(string16RO.wrap(string16Buffer, 0, string16Limit).asString());
+    }
+
+    @Benchmark
+    public boolean string16Equals()
+    {
+        return string16RO.wrap(string16Buffer, 0, string16Limit).equals(string16Value);
+    }
+
+    @Benchmark
+    public boolean string16EqualsAscii()
+    {
+        return string16RO.wrap(string16Buffer, 0, string16Limit).equalsAscii(string16Value);
+    }
+
+    @Benchmark
+    public int string16Build()
+    {
+        return buildString16(buffer);
+    }
+
+    @Benchmark
+    public long varint64ArrayIterate()
+    {
+        varint64Sum = 0L;
+        varint64ArrayRO.wrap(varint64ArrayBuffer, 0, varint64ArrayLimit).forEach(varint64Consumer);
+        return varint64Sum;
+    }
+
+    @Benchmark
+    public ArrayFW<Varint64FW> varint64ArrayTryWrap()
+    {
+        return varint64ArrayRO.tryWrap(varint64ArrayBuffer, 0, varint64ArrayLimit);
+    }
+
+    @Benchmark
+    public int varint64ArrayBuild()
+    {
+        return buildVarint64Array(buffer);
+    }
+
+    @Benchmark
+    public Roll rollWrap()
+    {
+        return rollRO.wrap(rollBuffer, 0, rollLimit).get();
+    }
+
+    @Benchmark
+    public RollFW rollTryWrap()
+    {
+        return rollRO.tryWrap(rollBuffer, 0, rollLimit);
+    }
+
+    @Benchmark
+    public int rollBuild()
+    {
+        return buildRoll(buffer);
+    }
+
+    private int buildNested(
+        MutableDirectBuffer buffer)
+    {
+        return buildNestedAt(buffer, 0);
+    }
+
+    private int buildNestedAt(
+        MutableDirectBuffer buffer,
+        int offset)
+    {
+        return nestedRW.wrap(buffer, offset, buffer.capacity())
+                       .fixed4(40)
+                       .flat(flatMutator)
+                       .fixed5(50)
+                       .build()
+                       .limit();
+    }
+
+    private int buildUnionOctets(
+        MutableDirectBuffer buffer)
+    {
+        return unionOctetsRW.wrap(buffer, 0, buffer.capacity())
+                            .octets4(octets4Mutator)
+                            .build()
+                            .limit();
+    }
+
+    private int buildFlatWithList(
+        MutableDirectBuffer buffer,
+        int offset)
+    {
+        return flatWithListRW.wrap(buffer, offset, buffer.capacity())
+                             .fixed1(10)
+                             .string1(values, 0, 10)
+                             .list1Item(list1ItemMutator)
+                             .list1Item(list1ItemMutator)
+                             .fixed2(20)
+                             .build()
+                             .limit();
+    }
+
+    private int buildIntegerFixedArrays(
+        MutableDirectBuffer buffer)
+    {
+        return integerFixedArraysRW.wrap(buffer, 0, buffer.capacity())
+                                   .appendUint8Array(0xFF)
+                                   .appendUint16Array(3)
+                                   .appendUint16Array(0xFFFF)
+                                   .appendUint32Array(10)
+                                   .appendUint32Array(11)
+                                   .appendUint32Array(0xFFFFFFFFL)
+                                   .appendUint64Array(20)
+                                   .appendUint64Array(21)
+                                   .appendUint64Array(22)
+                                   .appendUint64Array(23)
+                                   .anchor(values, 0, 6)
+                                   .appendInt8Array((byte) 127)
+                                   .appendInt16Array((short) 3)
+                                   .appendInt16Array((short) -3)
+                                   .appendInt32Array(-10)
+                                   .appendInt32Array(-11)
+                                   .appendInt32Array(-12)
+                                   .appendInt64Array(-20)
+                                   .appendInt64Array(-21)
+                                   .appendInt64Array(-22)
+                                   .appendInt64Array(-23)
+                                   .build()
+                                   .limit();
+    }
+
+    private int buildIntegerVariableArrays(
+        MutableDirectBuffer buffer)
+    {
+        return integerVariableArraysRW.wrap(buffer, 0, buffer.capacity())
+                                      .fixed1(11)
+                                      .fixed2((short) 22)
+                                      .varint32Array(varint32ArrayMutator)
+                                      .appendUnsigned64Array(10)
+                                      .appendUnsigned64Array(112345)
+                                      .appendUnsigned64Array(11234567)
+                                      .appendSigned16Array((short) 2)
+                                      .appendSigned16Array((short) -500)
+                                      .varint64Array(varint64ArrayMutator)
+                                      .appendArrayWithInt8Size(123)
+                                      .appendArrayWithInt16Size(124)
+                                      .build()
+                                      .limit();
+    }
+
+    private int buildVarint32(
+        MutableDirectBuffer buffer)
+    {
+        return varint32RW.wrap(buffer, 0, buffer.capacity())
+                         .set(-123456)
+                         .build()
+                         .limit();
+    }
+
+    private int buildVarint64(
+        MutableDirectBuffer buffer)
+    {
+        return varint64RW.wrap(buffer, 0, buffer.capacity())
+                         .set(-1234567890123L)
+                         .build()
+                         .limit();
+    }
+
+    private int buildString16(
+        MutableDirectBuffer buffer)
+    {
+        return string16RW.wrap(buffer, 0, buffer.capacity())
+                         .set(values, 0, 64)
+                         .build()
+                         .limit();
+    }
+
+    private int buildVarint64Array(
+        MutableDirectBuffer buffer)
+    {
+        varint64ArrayRW.wrap(buffer, 0, buffer.capacity());
+        varint64ArrayMutator.accept(varint64ArrayRW);
+        varint64ArrayMutator.accept(varint64ArrayRW);
+        return varint64ArrayRW.build().limit();
+    }
+
+    private int buildRoll(
+        MutableDirectBuffer buffer)
+    {
+        return rollRW.wrap(buffer, 0, buffer.capacity())
+                     .set(Roll.SPRING)
+                     .build()
+                     .limit();
+    }
+
+    private static long sum(
+        PrimitiveIterator.OfInt iterator)
+    {
+        long sum = 0L;
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    private static long sum(
+        PrimitiveIterator.OfLong iterator)
+    {
+        long sum = 0L;
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    private static MutableDirectBuffer newBuffer()
+    {
+        return new UnsafeBuffer(allocateDirect(CAPACITY).order(nativeOrder()));
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(GeneratedFlyweightBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
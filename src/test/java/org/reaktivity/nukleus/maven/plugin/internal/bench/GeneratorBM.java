@@ -0,0 +1,129 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.nukleus.maven.plugin.internal.ParserBM;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.visit.ScopeVisitor;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeResolver;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeSpecGenerator;
+
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class GeneratorBM
+{
+    private static final String PACKAGE_NAME = "org.reaktivity.bench.types";
+
+    @Param({ "1", "10" })
+    private int scopes;
+
+    @Param({ "10", "100", "1000" })
+    private int structs;
+
+    private String[] corpus;
+    private List<AstSpecificationNode> specifications;
+    private TypeResolver resolver;
+    private List<String> targetScopes;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        corpus = SyntheticIdl.corpus(scopes, structs);
+        specifications = parse();
+        resolver = resolve();
+        targetScopes = new ArrayList<>();
+        for (int i = 0; i < scopes; i++)
+        {
+            targetScopes.add(SyntheticIdl.scopeName(i));
+        }
+    }
+
+    @Benchmark
+    public List<AstSpecificationNode> parse()
+    {
+        List<AstSpecificationNode> specifications = new ArrayList<>(corpus.length);
+        for (String specification : corpus)
+        {
+            specifications.add(ParserBM.parseTwoStage(specification));
+        }
+        return specifications;
+    }
+
+    @Benchmark
+    public TypeResolver resolve()
+    {
+        TypeResolver resolver = new TypeResolver(PACKAGE_NAME);
+        specifications.forEach(resolver::visit);
+        return resolver;
+    }
+
+    @Benchmark
+    public long generate()
+    {
+        long length = 0L;
+        for (AstSpecificationNode specification : specifications)
+        {
+            String scopeName = specification.scope().name();
+            for (TypeSpecGenerator<?> generator : specification.accept(
+                    new ScopeVisitor(scopeName, PACKAGE_NAME, resolver, targetScopes)))
+            {
+                TypeSpec typeSpec = generator.generate();
+                String packageName = generator.className().packageName();
+                length += JavaFile.builder(packageName, typeSpec).build().toString().length();
+            }
+        }
+        return length;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(GeneratorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+/**
+ * Builds synthetic IDL corpora of {@code scopes} scopes with {@code structs} structs each,
+ * mixing fixed, defaulted, string, octets, list, array, enum, union, extended and cross-scope members.
+ */
+public final class SyntheticIdl
+{
+    private static final int ENUM_INTERVAL = 10;
+    private static final int UNION_INTERVAL = 10;
+
+    public static String[] corpus(
+        int scopes,
+        int structs)
+    {
+        String[] corpus = new String[scopes];
+        for (int i = 0; i < scopes; i++)
+        {
+            corpus[i] = specification(i, structs);
+        }
+        return corpus;
+    }
+
+    public static String specification(
+        int scopeIndex,
+        int structs)
+    {
+        String scopeName = scopeName(scopeIndex);
+        StringBuilder idl = new StringBuilder();
+        idl.append("scope ").append(scopeName).append("\n{\n");
+        for (int i = 0; i < structs; i++)
+        {
+            if (i % ENUM_INTERVAL == 0)
+            {
+                enumType(idl, i);
+            }
+
+            structType(idl, scopeIndex, i);
+
+            if (i % UNION_INTERVAL == UNION_INTERVAL - 1)
+            {
+                unionType(idl, scopeName, i);
+            }
+        }
+        idl.append("}\n");
+        return idl.toString();
+    }
+
+    public static String scopeName(
+        int scopeIndex)
+    {
+        return "scope" + scopeIndex;
+    }
+
+    private static void enumType(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    enum Kind").append(index).append("\n    {\n")
+           .append("        BEGIN,\n")
+           .append("        DATA,\n")
+           .append("        END\n")
+           .append("    }\n\n");
+    }
+
+    private static void structType(
+        StringBuilder idl,
+        int scopeIndex,
+        int index)
+    {
+        String scopeName = scopeName(scopeIndex);
+        idl.append("    struct Struct").append(index);
+        if (index % 4 == 1)
+        {
+            idl.append(" extends ").append(scopeName).append("::Struct").append(index - 1);
+        }
+        idl.append("\n    {\n")
+           .append("        uint8 flags").append(index).append(" = 1;\n")
+           .append("        int64 timestamp").append(index).append(";\n")
+           .append("        ").append(scopeName).append("::Kind").append(index - index % ENUM_INTERVAL)
+               .append(" kind").append(index).append(";\n")
+           .append("        string name").append(index).append(";\n");
+
+        if (index % 4 == 2)
+        {
+            idl.append("        ").append(scopeName).append("::Struct").append(index - 2)
+               .append(" nested").append(index).append(";\n");
+        }
+        else if (index % 4 == 3 && scopeIndex > 0)
+        {
+            idl.append("        ").append(scopeName(scopeIndex - 1)).append("::Struct").append(index)
+               .append(" peer").append(index).append(";\n");
+        }
+
+        idl.append("        list<string> headers").append(index).append(";\n")
+           .append("        int32[4] window").append(index).append(";\n")
+           .append("        int8 count").append(index).append(";\n")
+           .append("        int16[count").append(index).append("] values").append(index).append(" = null;\n")
+           .append("        uint16 length").append(index).append(";\n")
+           .append("        octets[length").append(index).append("] payload").append(index).append(";\n")
+           .append("    }\n\n");
+    }
+
+    private static void unionType(
+        StringBuilder idl,
+        String scopeName,
+        int index)
+    {
+        idl.append("    union Union").append(index).append(" switch (uint8)\n    {\n")
+           .append("        case 1: ").append(scopeName).append("::Struct").append(index).append(" struct1;\n")
+           .append("        case 2: octets[16] octets2;\n")
+           .append("        case 3: string string3;\n")
+           .append("    }\n\n");
+    }
+
+    private SyntheticIdl()
+    {
+    }
+}
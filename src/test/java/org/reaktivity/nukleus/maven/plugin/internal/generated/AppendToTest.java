@@ -0,0 +1,208 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.ArrayFW;
+import org.reaktivity.reaktor.internal.test.types.Flyweight;
+import org.reaktivity.reaktor.internal.test.types.ListFW;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.Roll;
+import org.reaktivity.reaktor.internal.test.types.inner.RollFW;
+import org.reaktivity.reaktor.internal.test.types.inner.UnionOctetsFW;
+
+public class AppendToTest
+{
+    private static final String PREFIX = "prefix:";
+
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(150))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    private final MutableDirectBuffer values = new UnsafeBuffer("0123456789abcdefghijklmnopqrstuv".getBytes(UTF_8));
+
+    @Test
+    public void shouldAppendString() throws Exception
+    {
+        StringFW stringRO = new StringFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set("value1", UTF_8)
+                .build();
+
+        assertAppendTo("\"value1\"", stringRO);
+    }
+
+    @Test
+    public void shouldAppendNonAsciiString() throws Exception
+    {
+        StringFW stringRO = new StringFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set("café €", UTF_8)
+                .build();
+
+        assertAppendTo("\"café €\"", stringRO);
+    }
+
+    @Test
+    public void shouldAppendString16WithNullValue() throws Exception
+    {
+        String16FW string16RO = new String16FW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set(null, UTF_8)
+                .build();
+
+        assertAppendTo("\"null\"", string16RO);
+    }
+
+    @Test
+    public void shouldAppendOctets() throws Exception
+    {
+        OctetsFW octetsRO = new OctetsFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set(values, 0, 12)
+                .build();
+
+        assertAppendTo("octets[12]", octetsRO);
+    }
+
+    @Test
+    public void shouldAppendVarints() throws Exception
+    {
+        Varint32FW varint32RO = new Varint32FW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set(-300)
+                .build();
+
+        assertAppendTo("-300", varint32RO);
+
+        Varint64FW varint64RO = new Varint64FW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set(-3_000_000_000L)
+                .build();
+
+        assertAppendTo("-3000000000", varint64RO);
+    }
+
+    @Test
+    public void shouldAppendEnum() throws Exception
+    {
+        RollFW rollRO = new RollFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .set(Roll.SPRING)
+                .build();
+
+        assertAppendTo("SPRING", rollRO);
+    }
+
+    @Test
+    public void shouldAppendListAndArray() throws Exception
+    {
+        ListFW<StringFW> listRO = new ListFW.Builder<>(new StringFW.Builder(), new StringFW())
+                .wrap(buffer, 0, buffer.capacity())
+                .item(b -> b.set("item1", UTF_8))
+                .build();
+
+        assertAppendTo("ARRAY containing 6 bytes of data", listRO);
+
+        ArrayFW<Varint64FW> arrayRO = new ArrayFW.Builder<>(new Varint64FW.Builder(), new Varint64FW())
+                .wrap(buffer, 0, buffer.capacity())
+                .item(b -> b.set(1L))
+                .item(b -> b.set(-200L))
+                .build();
+
+        assertAppendTo("ARRAY containing 3 bytes of data", arrayRO);
+    }
+
+    @Test
+    public void shouldAppendUnion() throws Exception
+    {
+        UnionOctetsFW unionRO = new UnionOctetsFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .string1("value1")
+                .build();
+
+        assertAppendTo("UNIONOCTETS [string1=value1]", unionRO);
+    }
+
+    @Test
+    public void shouldAppendStruct() throws Exception
+    {
+        FlatFW flatRO = new FlatFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .fixed1(10)
+                .fixed2(20)
+                .string1("value1")
+                .fixed3(30)
+                .string2("über")
+                .build();
+
+        assertAppendTo("FLAT [fixed1=10, fixed2=20, string1=value1, fixed3=30, string2=über]", flatRO);
+    }
+
+    @Test
+    public void shouldAppendNestedStruct() throws Exception
+    {
+        NestedFW nestedRO = new NestedFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .fixed4(40L)
+                .flat(f -> f.fixed1(10).fixed2(20).string1("value1").fixed3(30).string2("value2"))
+                .fixed5(50L)
+                .build();
+
+        assertAppendTo("NESTED [fixed4=40, flat=FLAT [fixed1=10, fixed2=20, string1=value1, fixed3=30, string2=value2], " +
+                "fixed5=50]", nestedRO);
+    }
+
+    @Test
+    public void shouldAppendStructWithArrays() throws Exception
+    {
+        IntegerVariableArraysFW arraysRO = new IntegerVariableArraysFW.Builder().wrap(buffer, 0, buffer.capacity())
+                .fixed1(1)
+                .fixed2((short) 2)
+                .varint32Array(a -> a.item(v -> v.set(-1)).item(v -> v.set(1)))
+                .appendUnsigned64Array(10L)
+                .appendUnsigned64Array(11L)
+                .appendSigned16Array((short) -3)
+                .varint64Array(a -> a.item(v -> v.set(12L)))
+                .appendArrayWithInt8Size(7)
+                .appendArrayWithInt16Size(8)
+                .build();
+
+        assertAppendTo("INTEGER_VARIABLE_ARRAYS [fixed1=1, lengthUnsigned64=2, fixed2=2, " +
+                "varint32Array=ARRAY containing 2 bytes of data, unsigned64Array=[10, 11], lengthSigned16=1, " +
+                "signed16Array=[-3], varint64Array=ARRAY containing 1 bytes of data, lengthInt8=1, " +
+                "arrayWithInt8Size=[7], lengthInt16=1, arrayWithInt16Size=[8]]", arraysRO);
+    }
+
+    private static void assertAppendTo(
+        String expected,
+        Flyweight flyweight)
+    {
+        StringBuilder builder = new StringBuilder(PREFIX);
+
+        assertSame(builder, flyweight.appendTo(builder));
+        assertEquals(PREFIX + expected, builder.toString());
+        assertEquals(expected, flyweight.toString());
+    }
+}
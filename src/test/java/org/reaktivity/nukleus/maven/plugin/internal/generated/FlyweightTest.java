@@ -16,13 +16,13 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
-import java.util.Arrays;
-
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
@@ -112,11 +112,74 @@ public class FlyweightTest
         assertTrue(zis.equals(zat));
     }
 
+    @Test
+    public void shouldReturnFalseFromEqualsWithDifferentTrailingContent() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "0123456789abcdefX");
+        buffer.putStringWithoutLengthUtf8(20, "0123456789abcdefY");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  17);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  20,  37);
+        assertFalse(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldReturnTrueFromEqualsWithLongContent() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(1, "0123456789abcdefX");
+        buffer.putStringWithoutLengthUtf8(20, "0123456789abcdefX");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  18);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  20,  37);
+        assertTrue(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldReturnTrueFromContentEquals() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "0123456789abcdefX");
+        Flyweight flyweight = new TestFlyweight().wrap(buffer,  0,  17);
+        UnsafeBuffer content = new UnsafeBuffer("..0123456789abcdefX".getBytes(UTF_8));
+        assertTrue(flyweight.contentEquals(content, 2, 17));
+    }
+
+    @Test
+    public void shouldReturnFalseFromContentEqualsWithDifferentContent() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "0123456789abcdefX");
+        Flyweight flyweight = new TestFlyweight().wrap(buffer,  0,  17);
+        UnsafeBuffer content = new UnsafeBuffer("0123456789abcdeFX".getBytes(UTF_8));
+        assertFalse(flyweight.contentEquals(content, 0, 17));
+        assertFalse(flyweight.contentEquals(content, 0, 16));
+    }
+
     @Test
     public void shouldReturnHashCode() throws Exception
     {
         buffer.putStringWithoutLengthUtf8(0, "asdf");
-        Flyweight flyweight = new TestFlyweight().wrap(buffer,  0,  4);
-        assertEquals(Arrays.hashCode("asdf".getBytes()), flyweight.hashCode());
+        buffer.putStringWithoutLengthUtf8(10, "asdf");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  4);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  10,  14);
+        assertEquals(zis.hashCode(), zat.hashCode());
+    }
+
+    @Test
+    public void shouldReturnSameHashCodeForEqualLongContent() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(1, "0123456789abcdefX");
+        buffer.putStringWithoutLengthUtf8(20, "0123456789abcdefX");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  18);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  20,  37);
+        assertEquals(zis.hashCode(), zat.hashCode());
+    }
+
+    @Test
+    public void shouldReturnDifferentHashCodeForDifferentContent() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "0123456789abcdefX");
+        buffer.putStringWithoutLengthUtf8(20, "0123456789abcdefY");
+        buffer.putStringWithoutLengthUtf8(40, "0123456789abcdeFX");
+        int hashCode = new TestFlyweight().wrap(buffer,  0,  17).hashCode();
+        assertNotEquals(hashCode, new TestFlyweight().wrap(buffer,  20,  37).hashCode());
+        assertNotEquals(hashCode, new TestFlyweight().wrap(buffer,  40,  57).hashCode());
+        assertNotEquals(hashCode, new TestFlyweight().wrap(buffer,  0,  16).hashCode());
     }
 }
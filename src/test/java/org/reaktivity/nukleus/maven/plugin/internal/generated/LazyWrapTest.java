@@ -0,0 +1,157 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.lazy.inner.FlatWithOctetsFW;
+import org.reaktivity.reaktor.internal.test.types.lazy.inner.IntegerVariableArraysFW;
+import org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW;
+
+public class LazyWrapTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(150))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    private final MutableDirectBuffer values = new UnsafeBuffer(new byte[32])
+    {
+        {
+            putStringWithoutLengthUtf8(0, "0123456789abcdefghijklmnopqrstuv");
+        }
+    };
+
+    private final NestedFW.Builder nestedRW = new NestedFW.Builder();
+    private final NestedFW nestedRO = new NestedFW();
+
+    @Test
+    public void shouldReadFixedMembersBeforeAndAfterNestedMember() throws Exception
+    {
+        int limit = buildNested(10, "value1", 50L);
+
+        NestedFW nested = nestedRO.wrap(buffer, 10, limit);
+
+        assertSame(nestedRO, nested);
+        assertEquals(40L, nested.fixed4());
+        assertEquals(50L, nested.fixed5());
+        assertEquals("value1", nested.flat().string1().asString());
+        assertEquals(limit, nested.limit());
+    }
+
+    @Test
+    public void shouldRepositionMembersOnRewrap() throws Exception
+    {
+        int limit1 = buildNested(0, "value1", 50L);
+        int limit2 = buildNested(limit1, "longer value2", 60L);
+
+        assertEquals(50L, nestedRO.wrap(buffer, 0, limit1).fixed5());
+        assertEquals("value1", nestedRO.flat().string1().asString());
+
+        assertEquals(60L, nestedRO.wrap(buffer, limit1, limit2).fixed5());
+        assertEquals("longer value2", nestedRO.flat().string1().asString());
+        assertEquals(limit2, nestedRO.limit());
+    }
+
+    @Test
+    public void shouldDeferBoundsCheckToTryWrap() throws Exception
+    {
+        int limit = buildNested(0, "value1", 50L);
+
+        assertEquals(40L, nestedRO.wrap(buffer, 0, limit - 1).fixed4());
+        assertNull(nestedRO.tryWrap(buffer, 0, limit - 1));
+
+        assertNotNull(nestedRO.tryWrap(buffer, 0, limit));
+        assertEquals(50L, nestedRO.fixed5());
+        assertEquals(limit, nestedRO.limit());
+    }
+
+    @Test
+    public void shouldMatchEagerFlyweightWithSizedMembers() throws Exception
+    {
+        int limit = new FlatWithOctetsFW.Builder()
+                .wrap(buffer, 0, buffer.capacity())
+                .fixed1(5)
+                .octets1(values, 0, 10)
+                .string1("value1")
+                .octets2(values, 10, 5)
+                .lengthOctets3(3)
+                .octets3(values, 15, 3)
+                .octets4(values, 18, 4)
+                .extension(values, 22, 2)
+                .build()
+                .limit();
+
+        org.reaktivity.reaktor.internal.test.types.inner.FlatWithOctetsFW eagerRO =
+                new org.reaktivity.reaktor.internal.test.types.inner.FlatWithOctetsFW().wrap(buffer, 0, limit);
+        FlatWithOctetsFW lazyRO = new FlatWithOctetsFW();
+
+        assertEquals(4, lazyRO.wrap(buffer, 0, limit).lengthOctets4());
+        assertEquals(eagerRO.toString(), lazyRO.wrap(buffer, 0, limit).toString());
+        assertEquals(limit, lazyRO.wrap(buffer, 0, limit).limit());
+        assertEquals(2, lazyRO.wrap(buffer, 0, limit).extension().sizeof());
+    }
+
+    @Test
+    public void shouldMatchEagerFlyweightWithIntegerArrays() throws Exception
+    {
+        int limit = new IntegerVariableArraysFW.Builder()
+                .wrap(buffer, 0, buffer.capacity())
+                .fixed1(1)
+                .fixed2((short) 2)
+                .varint32Array(a -> a.item(v -> v.set(-1)).item(v -> v.set(1)))
+                .appendUnsigned64Array(10L)
+                .appendUnsigned64Array(20L)
+                .appendSigned16Array((short) -3)
+                .varint64Array(a -> a.item(v -> v.set(12L)))
+                .appendArrayWithInt8Size(7)
+                .appendArrayWithInt16Size(8)
+                .build()
+                .limit();
+
+        org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW eagerRO =
+                new org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW().wrap(buffer, 0, limit);
+        IntegerVariableArraysFW lazyRO = new IntegerVariableArraysFW();
+
+        assertEquals(8, lazyRO.wrap(buffer, 0, limit).arrayWithInt16Size().nextInt());
+        assertEquals(eagerRO.toString(), lazyRO.wrap(buffer, 0, limit).toString());
+        assertEquals(limit, lazyRO.wrap(buffer, 0, limit).limit());
+        assertEquals(1, lazyRO.wrap(buffer, 0, limit).lengthInt16());
+    }
+
+    private int buildNested(
+        int offset,
+        String string1,
+        long fixed5)
+    {
+        return nestedRW.wrap(buffer, offset, buffer.capacity())
+                .fixed4(40L)
+                .flat(f -> f.fixed1(10).fixed2(20).string1(string1).fixed3(30).string2("value2"))
+                .fixed5(fixed5)
+                .build()
+                .limit();
+    }
+}
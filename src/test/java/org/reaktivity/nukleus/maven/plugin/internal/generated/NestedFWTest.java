@@ -111,6 +111,28 @@ public class NestedFWTest
         assertAllTestValuesRead(nestedRO);
     }
 
+    @Test
+    public void shouldRecomputeLimitWhenRewrapped() throws Exception
+    {
+        int size = setAllTestValues(buffer, 0);
+        buffer.putLong(size, 40);
+        buffer.putLong(size + 8, 10);
+        buffer.putShort(size + 16, (short) 20);
+        buffer.putByte(size + 18, (byte) 3);
+        buffer.putStringWithoutLengthUtf8(size + 19, "abc");
+        buffer.putInt(size + 22, 30);
+        buffer.putByte(size + 26, (byte) 6);
+        buffer.putStringWithoutLengthUtf8(size + 27, "value2");
+        buffer.putLong(size + 33, 60);
+
+        assertEquals(size, nestedRO.wrap(buffer, 0, buffer.capacity()).sizeof());
+        assertEquals(50, nestedRO.fixed5());
+
+        nestedRO.wrap(buffer, size, buffer.capacity());
+        assertEquals(size - 3, nestedRO.sizeof());
+        assertEquals(60, nestedRO.fixed5());
+    }
+
     @Test
     public void shouldWrapAndReadAllValues() throws Exception
     {
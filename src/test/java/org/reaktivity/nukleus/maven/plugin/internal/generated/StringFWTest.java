@@ -18,7 +18,9 @@ package org.reaktivity.nukleus.maven.plugin.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.agrona.BitUtil;
 import org.agrona.MutableDirectBuffer;
@@ -265,6 +267,124 @@ public class StringFWTest
         assertEquals("value1", stringRO.value().getStringWithoutLengthUtf8(0, stringRO.value().capacity()));
     }
 
+    @Test
+    public void shouldViewAsciiStringAsCharSequence() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer,  0,  limit);
+
+        CharSequence chars = stringRO.asCharSequence();
+        assertEquals(6, chars.length());
+        assertEquals('v', chars.charAt(0));
+        assertEquals('1', chars.charAt(5));
+        assertEquals("alu", chars.subSequence(1, 4).toString());
+        assertEquals("value1", chars.toString());
+        assertEquals("value1".hashCode(), chars.hashCode());
+    }
+
+    @Test
+    public void shouldViewNonAsciiStringAsCharSequence() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("caf\u00e9 \u20ac", UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer,  0,  limit);
+
+        CharSequence chars = stringRO.asCharSequence();
+        assertEquals(6, chars.length());
+        assertEquals('\u00e9', chars.charAt(3));
+        assertEquals("caf\u00e9 \u20ac", chars.toString());
+        assertEquals("caf\u00e9 \u20ac".hashCode(), chars.hashCode());
+    }
+
+    @Test
+    public void shouldReuseCharSequenceViewAfterRewrap() throws Exception
+    {
+        int limit1 = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+        int limit2 = stringRW.wrap(buffer, limit1, buffer.capacity())
+            .set("other", UTF_8)
+            .build()
+            .limit();
+
+        CharSequence chars = stringRO.wrap(buffer, 0, limit1).asCharSequence();
+        assertEquals("value1", chars.toString());
+        assertEquals(chars, stringRO.wrap(buffer, limit1, limit2).asCharSequence());
+        assertEquals("other", chars.toString());
+        assertEquals("other".hashCode(), chars.hashCode());
+    }
+
+    @Test
+    public void shouldReturnNullCharSequenceWhenNull() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set(null, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer,  0,  limit);
+
+        assertNull(stringRO.asCharSequence());
+        assertTrue(stringRO.equalsAscii(null));
+        assertTrue(stringRO.equals((String) null));
+        assertFalse(stringRO.equals(""));
+    }
+
+    @Test
+    public void shouldCompareAsciiInPlace() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer,  0,  limit);
+
+        assertTrue(stringRO.equalsAscii("value1"));
+        assertTrue(stringRO.equalsAscii(new StringBuilder("value1")));
+        assertFalse(stringRO.equalsAscii("value2"));
+        assertFalse(stringRO.equalsAscii("value"));
+        assertFalse(stringRO.equalsAscii("value12"));
+        assertFalse(stringRO.equalsAscii(null));
+        assertTrue(stringRO.asCharSequence().equals(stringRO.asCharSequence()));
+    }
+
+    @Test
+    public void shouldCompareUtf8InPlace() throws Exception
+    {
+        String value = "caf\u00e9 \u20ac \ud83d\ude00";
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set(value, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer,  0,  limit);
+
+        assertTrue(stringRO.equals(value));
+        assertFalse(stringRO.equals("caf\u00e8 \u20ac \ud83d\ude00"));
+        assertFalse(stringRO.equals("caf\u00e9 \u20ac"));
+        assertFalse(stringRO.equals(value + "!"));
+        assertFalse(stringRO.equalsAscii(value));
+        assertTrue(stringRO.asCharSequence().toString().equals(value));
+    }
+
+    @Test
+    public void shouldCompareUnpairedSurrogateAsEncoded() throws Exception
+    {
+        String value = "a\ud83db";
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set(value, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer,  0,  limit);
+
+        assertTrue(stringRO.equals(value));
+        assertTrue(stringRO.equals("a?b"));
+    }
+
     @Test
     public void shouldSetUsingBuffer() throws Exception
     {
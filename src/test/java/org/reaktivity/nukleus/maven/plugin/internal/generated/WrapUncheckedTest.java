@@ -0,0 +1,260 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.ArrayFW;
+import org.reaktivity.reaktor.internal.test.types.Flyweight;
+import org.reaktivity.reaktor.internal.test.types.ListFW;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithListFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithOctetsFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.Roll;
+import org.reaktivity.reaktor.internal.test.types.inner.RollFW;
+import org.reaktivity.reaktor.internal.test.types.inner.UnionOctetsFW;
+
+public class WrapUncheckedTest
+{
+    private static final int OFFSET = 10;
+
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(150))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    private final MutableDirectBuffer values = new UnsafeBuffer("0123456789abcdefghijklmnopqrstuv".getBytes(UTF_8));
+
+    @Test
+    public void shouldWrapStringUnchecked() throws Exception
+    {
+        int limit = new StringFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .set("value1", UTF_8)
+                .build()
+                .limit();
+
+        StringFW stringRO = new StringFW();
+        assertWrapUnchecked(new StringFW(), stringRO, limit);
+        assertEquals("value1", stringRO.value().getStringWithoutLengthUtf8(0, 6));
+    }
+
+    @Test
+    public void shouldWrapString16Unchecked() throws Exception
+    {
+        int limit = new String16FW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .set("value1", UTF_8)
+                .build()
+                .limit();
+
+        String16FW string16RO = new String16FW();
+        assertWrapUnchecked(new String16FW(), string16RO, limit);
+        assertEquals("value1", string16RO.value().getStringWithoutLengthUtf8(0, 6));
+    }
+
+    @Test
+    public void shouldWrapOctetsUnchecked() throws Exception
+    {
+        int limit = new OctetsFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .set(values, 0, 12)
+                .build()
+                .limit();
+
+        assertWrapUnchecked(new OctetsFW(), new OctetsFW(), limit);
+    }
+
+    @Test
+    public void shouldWrapVarintsUnchecked() throws Exception
+    {
+        int limit32 = new Varint32FW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .set(-300)
+                .build()
+                .limit();
+
+        assertWrapUnchecked(new Varint32FW(), new Varint32FW(), limit32);
+
+        int limit64 = new Varint64FW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .set(-3_000_000_000L)
+                .build()
+                .limit();
+
+        assertWrapUnchecked(new Varint64FW(), new Varint64FW(), limit64);
+    }
+
+    @Test
+    public void shouldWrapEnumUnchecked() throws Exception
+    {
+        int limit = new RollFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .set(Roll.SPRING)
+                .build()
+                .limit();
+
+        RollFW rollRO = new RollFW();
+        assertWrapUnchecked(new RollFW(), rollRO, limit);
+        assertEquals(Roll.SPRING, rollRO.get());
+    }
+
+    @Test
+    public void shouldWrapListUnchecked() throws Exception
+    {
+        int limit = new ListFW.Builder<>(new StringFW.Builder(), new StringFW())
+                .wrap(buffer, OFFSET, buffer.capacity())
+                .item(b -> b.set("item1", UTF_8))
+                .item(b -> b.set("item2", UTF_8))
+                .build()
+                .limit();
+
+        assertWrapUnchecked(new ListFW<>(new StringFW()), new ListFW<>(new StringFW()), limit);
+    }
+
+    @Test
+    public void shouldWrapArrayUnchecked() throws Exception
+    {
+        int limit = new ArrayFW.Builder<>(new Varint64FW.Builder(), new Varint64FW())
+                .wrap(buffer, OFFSET, buffer.capacity())
+                .item(b -> b.set(1L))
+                .item(b -> b.set(-200L))
+                .build()
+                .limit();
+
+        assertWrapUnchecked(new ArrayFW<>(new Varint64FW()), new ArrayFW<>(new Varint64FW()), limit);
+    }
+
+    @Test
+    public void shouldWrapUnionUnchecked() throws Exception
+    {
+        UnionOctetsFW.Builder unionRW = new UnionOctetsFW.Builder();
+        UnionOctetsFW unionRO = new UnionOctetsFW();
+
+        int limit4 = unionRW.wrap(buffer, OFFSET, buffer.capacity())
+                .octets4(b -> b.set(values, 0, 4))
+                .build()
+                .limit();
+        assertWrapUnchecked(new UnionOctetsFW(), unionRO, limit4);
+
+        int limit16 = unionRW.wrap(buffer, OFFSET, buffer.capacity())
+                .octets16(b -> b.set(values, 0, 16))
+                .build()
+                .limit();
+        assertWrapUnchecked(new UnionOctetsFW(), unionRO, limit16);
+
+        int limitString = unionRW.wrap(buffer, OFFSET, buffer.capacity())
+                .string1("value1")
+                .build()
+                .limit();
+        assertWrapUnchecked(new UnionOctetsFW(), unionRO, limitString);
+        assertEquals("value1", unionRO.string1().asString());
+    }
+
+    @Test
+    public void shouldWrapStructWithNestedMembersUnchecked() throws Exception
+    {
+        int limit = new NestedFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .fixed4(40L)
+                .flat(f -> f.fixed1(10).fixed2(20).string1("value1").fixed3(30).string2("value2"))
+                .fixed5(50L)
+                .build()
+                .limit();
+
+        NestedFW nestedRO = new NestedFW();
+        assertWrapUnchecked(new NestedFW(), nestedRO, limit);
+        assertEquals(50L, nestedRO.fixed5());
+        assertEquals("value2", nestedRO.flat().string2().asString());
+
+        org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW lazyNestedRO =
+                new org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW();
+        assertWrapUnchecked(new org.reaktivity.reaktor.internal.test.types.lazy.inner.NestedFW(), lazyNestedRO, limit);
+        assertEquals(50L, lazyNestedRO.fixed5());
+    }
+
+    @Test
+    public void shouldWrapStructWithSizedMembersUnchecked() throws Exception
+    {
+        int limit = new FlatWithOctetsFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .fixed1(5)
+                .octets1(values, 0, 10)
+                .string1("value1")
+                .octets2(values, 10, 5)
+                .lengthOctets3(3)
+                .octets3(values, 15, 3)
+                .octets4(values, 18, 4)
+                .extension(values, 22, 2)
+                .build()
+                .limit();
+
+        FlatWithOctetsFW flatRO = new FlatWithOctetsFW();
+        assertWrapUnchecked(new FlatWithOctetsFW(), flatRO, limit);
+        assertEquals(2, flatRO.extension().sizeof());
+    }
+
+    @Test
+    public void shouldWrapStructWithListAndArraysUnchecked() throws Exception
+    {
+        int limitList = new FlatWithListFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .fixed1(10)
+                .string1("value1")
+                .list1(l -> l.item(b -> b.set("item1", UTF_8)))
+                .fixed2(20)
+                .build()
+                .limit();
+
+        assertWrapUnchecked(new FlatWithListFW(), new FlatWithListFW(), limitList);
+
+        int limitArrays = new IntegerVariableArraysFW.Builder().wrap(buffer, OFFSET, buffer.capacity())
+                .fixed1(1)
+                .fixed2((short) 2)
+                .varint32Array(a -> a.item(v -> v.set(-1)).item(v -> v.set(1)))
+                .appendUnsigned64Array(10L)
+                .appendSigned16Array((short) -3)
+                .varint64Array(a -> a.item(v -> v.set(12L)))
+                .appendArrayWithInt8Size(7)
+                .appendArrayWithInt16Size(8)
+                .build()
+                .limit();
+
+        IntegerVariableArraysFW arraysRO = new IntegerVariableArraysFW();
+        assertWrapUnchecked(new IntegerVariableArraysFW(), arraysRO, limitArrays);
+        assertEquals(8, arraysRO.arrayWithInt16Size().nextInt());
+    }
+
+    private <T extends Flyweight> void assertWrapUnchecked(
+        T checkedRO,
+        T uncheckedRO,
+        int limit)
+    {
+        checkedRO.wrap(buffer, OFFSET, limit);
+
+        assertSame(uncheckedRO, uncheckedRO.wrapUnchecked(buffer, OFFSET, limit));
+        assertEquals(checkedRO.offset(), uncheckedRO.offset());
+        assertEquals(checkedRO.limit(), uncheckedRO.limit());
+        assertEquals(checkedRO.toString(), uncheckedRO.toString());
+        assertEquals(checkedRO, uncheckedRO);
+    }
+}
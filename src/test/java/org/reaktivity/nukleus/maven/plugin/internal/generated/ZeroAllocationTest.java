@@ -0,0 +1,489 @@
+/**
+ * Copyright 2016-2019 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.ArrayFW;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithListFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithOctetsFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerFixedArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.Roll;
+import org.reaktivity.reaktor.internal.test.types.inner.RollFW;
+import org.reaktivity.reaktor.internal.test.types.inner.UnionOctetsFW;
+
+public class ZeroAllocationTest
+{
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 10_000;
+
+    // operations expected to allocate, exercised below but excluded from the zero allocation check
+    private static final List<String> KNOWN_EXCEPTIONS = Arrays.asList(
+        "StringFW.Builder.set(String, Charset)",
+        "String16FW.Builder.set(String, Charset)",
+        "FlatFW.Builder.string1(String)",
+        "StringFW.asString()",
+        "FlatFW.toString()");
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(1024));
+    private final MutableDirectBuffer values = new UnsafeBuffer(allocateDirect(1024));
+
+    private final FlatFW.Builder flatRW = new FlatFW.Builder();
+    private final FlatFW flatRO = new FlatFW();
+    private final NestedFW.Builder nestedRW = new NestedFW.Builder();
+    private final NestedFW nestedRO = new NestedFW();
+    private final FlatWithListFW.Builder flatWithListRW = new FlatWithListFW.Builder();
+    private final FlatWithListFW flatWithListRO = new FlatWithListFW();
+    private final FlatWithOctetsFW.Builder flatWithOctetsRW = new FlatWithOctetsFW.Builder();
+    private final FlatWithOctetsFW flatWithOctetsRO = new FlatWithOctetsFW();
+    private final UnionOctetsFW.Builder unionOctetsRW = new UnionOctetsFW.Builder();
+    private final UnionOctetsFW unionOctetsRO = new UnionOctetsFW();
+    private final IntegerFixedArraysFW.Builder integerFixedArraysRW = new IntegerFixedArraysFW.Builder();
+    private final IntegerFixedArraysFW integerFixedArraysRO = new IntegerFixedArraysFW();
+    private final IntegerVariableArraysFW.Builder integerVariableArraysRW = new IntegerVariableArraysFW.Builder();
+    private final IntegerVariableArraysFW integerVariableArraysRO = new IntegerVariableArraysFW();
+    private final StringFW.Builder stringRW = new StringFW.Builder();
+    private final StringFW stringRO = new StringFW();
+    private final String16FW.Builder string16RW = new String16FW.Builder();
+    private final String16FW string16RO = new String16FW();
+    private final OctetsFW.Builder octetsRW = new OctetsFW.Builder();
+    private final OctetsFW octetsRO = new OctetsFW();
+    private final Varint32FW.Builder varint32RW = new Varint32FW.Builder();
+    private final Varint32FW varint32RO = new Varint32FW();
+    private final Varint64FW.Builder varint64RW = new Varint64FW.Builder();
+    private final Varint64FW varint64RO = new Varint64FW();
+    private final ArrayFW.Builder<Varint64FW.Builder, Varint64FW> arrayRW =
+            new ArrayFW.Builder<>(new Varint64FW.Builder(), new Varint64FW());
+    private final ArrayFW<Varint64FW> arrayRO = new ArrayFW<>(new Varint64FW());
+    private final RollFW.Builder rollRW = new RollFW.Builder();
+    private final RollFW rollRO = new RollFW();
+    private final StringBuilder text = new StringBuilder(1024);
+
+    private Consumer<FlatFW.Builder> flatMutator;
+    private Consumer<StringFW.Builder> listItemMutator;
+    private Consumer<OctetsFW.Builder> octetsMutator;
+    private Consumer<Varint64FW.Builder> varint64Mutator;
+    private Consumer<ArrayFW.Builder<Varint32FW.Builder, Varint32FW>> varint32ArrayMutator;
+    private Consumer<ArrayFW.Builder<Varint64FW.Builder, Varint64FW>> varint64ArrayMutator;
+    private Consumer<Varint64FW> varint64Consumer;
+    private Consumer<StringFW> stringConsumer;
+
+    private long sink;
+
+    @Before
+    public void init()
+    {
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        values.putStringWithoutLengthUtf8(0, "value1.............................................................");
+
+        flatMutator = f -> f.fixed1(10).fixed2(20).string1(values, 0, 6).fixed3(30).string2(values, 0, 6);
+        listItemMutator = s -> s.set(values, 0, 6);
+        octetsMutator = o -> o.set(values, 0, 4);
+        varint64Mutator = v -> v.set(-12L);
+        varint32ArrayMutator = a -> a.item(v -> v.set(-1)).item(v -> v.set(1));
+        varint64ArrayMutator = a -> a.item(varint64Mutator).item(varint64Mutator);
+        varint64Consumer = v -> sink += v.value();
+        stringConsumer = s -> sink += s.sizeof();
+    }
+
+    @Test
+    public void shouldNotAllocateForFlat()
+    {
+        int limit = buildFlat();
+        assertAllocationFree("FlatFW.Builder", this::buildFlat);
+        assertAllocationFree("FlatFW.wrap", () -> flatRO.wrap(buffer, 0, limit));
+        assertAllocationFree("FlatFW.tryWrap", () -> flatRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("FlatFW accessors", () ->
+        {
+            FlatFW flat = flatRO.wrap(buffer, 0, limit);
+            sink += flat.fixed1() + flat.fixed2() + flat.string1().sizeof() + flat.fixed3() + flat.string2().sizeof();
+        });
+        assertAllocationFree("FlatFW.Builder.string1(StringFW)", () ->
+            flatRW.wrap(buffer, 0, buffer.capacity())
+                  .fixed1(10)
+                  .string1(flatRO.string1()));
+        assertAllocationFree("FlatFW.Builder.string1(String)", () ->
+            flatRW.wrap(buffer, 0, buffer.capacity())
+                  .fixed1(10)
+                  .string1("value1"));
+        assertAllocationFree("FlatFW.appendTo", () -> flatRO.wrap(buffer, 0, limit).appendTo(text).setLength(0));
+        assertAllocationFree("FlatFW.toString()", () -> sink += flatRO.wrap(buffer, 0, limit).toString().length());
+    }
+
+    @Test
+    public void shouldNotAllocateForNested()
+    {
+        int limit = buildNested();
+        assertAllocationFree("NestedFW.Builder", this::buildNested);
+        assertAllocationFree("NestedFW.wrap", () -> nestedRO.wrap(buffer, 0, limit));
+        assertAllocationFree("NestedFW.tryWrap", () -> nestedRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("NestedFW.wrapUnchecked", () -> nestedRO.wrapUnchecked(buffer, 0, limit));
+        assertAllocationFree("NestedFW accessors", () ->
+        {
+            NestedFW nested = nestedRO.wrap(buffer, 0, limit);
+            sink += nested.fixed4() + nested.flat().fixed1() + nested.flat().string2().sizeof() + nested.fixed5();
+        });
+        assertAllocationFree("NestedFW.equals", () -> sink += nestedRO.equals(nestedRO.flat()) ? 1 : 0);
+        assertAllocationFree("NestedFW.hashCode", () -> sink += nestedRO.hashCode());
+        assertAllocationFree("NestedFW.appendTo", () -> nestedRO.appendTo(text).setLength(0));
+    }
+
+    @Test
+    public void shouldNotAllocateForFlatWithList()
+    {
+        int limit = buildFlatWithList();
+        assertAllocationFree("FlatWithListFW.Builder", this::buildFlatWithList);
+        assertAllocationFree("FlatWithListFW.wrap", () -> flatWithListRO.wrap(buffer, 0, limit));
+        assertAllocationFree("FlatWithListFW.tryWrap", () -> flatWithListRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("FlatWithListFW accessors", () ->
+        {
+            FlatWithListFW flatWithList = flatWithListRO.wrap(buffer, 0, limit);
+            sink += flatWithList.fixed1() + flatWithList.string1().sizeof() + flatWithList.fixed2();
+            flatWithList.list1().forEach(stringConsumer);
+        });
+    }
+
+    @Test
+    public void shouldNotAllocateForFlatWithOctets()
+    {
+        int limit = buildFlatWithOctets();
+        assertAllocationFree("FlatWithOctetsFW.Builder", this::buildFlatWithOctets);
+        assertAllocationFree("FlatWithOctetsFW.wrap", () -> flatWithOctetsRO.wrap(buffer, 0, limit));
+        assertAllocationFree("FlatWithOctetsFW.tryWrap", () -> flatWithOctetsRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("FlatWithOctetsFW accessors", () ->
+        {
+            FlatWithOctetsFW flatWithOctets = flatWithOctetsRO.wrap(buffer, 0, limit);
+            sink += flatWithOctets.fixed1() + flatWithOctets.octets1().sizeof() + flatWithOctets.string1().sizeof() +
+                    flatWithOctets.octets2().sizeof() + flatWithOctets.octets3().sizeof() +
+                    flatWithOctets.extension().sizeof();
+        });
+    }
+
+    @Test
+    public void shouldNotAllocateForUnionOctets()
+    {
+        int limit = buildUnionOctets();
+        assertAllocationFree("UnionOctetsFW.Builder", this::buildUnionOctets);
+        assertAllocationFree("UnionOctetsFW.wrap", () -> unionOctetsRO.wrap(buffer, 0, limit));
+        assertAllocationFree("UnionOctetsFW.tryWrap", () -> unionOctetsRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("UnionOctetsFW.wrapUnchecked", () -> unionOctetsRO.wrapUnchecked(buffer, 0, limit));
+        assertAllocationFree("UnionOctetsFW accessors", () ->
+        {
+            UnionOctetsFW unionOctets = unionOctetsRO.wrap(buffer, 0, limit);
+            sink += unionOctets.kind() + unionOctets.octets4().sizeof();
+        });
+        assertAllocationFree("UnionOctetsFW.appendTo", () -> unionOctetsRO.appendTo(text).setLength(0));
+    }
+
+    @Test
+    public void shouldNotAllocateForIntegerFixedArrays()
+    {
+        int limit = buildIntegerFixedArrays();
+        assertAllocationFree("IntegerFixedArraysFW.Builder", this::buildIntegerFixedArrays);
+        assertAllocationFree("IntegerFixedArraysFW.wrap", () -> integerFixedArraysRO.wrap(buffer, 0, limit));
+        assertAllocationFree("IntegerFixedArraysFW.tryWrap", () -> integerFixedArraysRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("IntegerFixedArraysFW accessors", () ->
+        {
+            IntegerFixedArraysFW integerFixedArrays = integerFixedArraysRO.wrap(buffer, 0, limit);
+            sink += sum(integerFixedArrays.uint8Array()) + sum(integerFixedArrays.uint16Array()) +
+                    sum(integerFixedArrays.uint32Array()) + sum(integerFixedArrays.uint64Array()) +
+                    integerFixedArrays.anchor().sizeof() +
+                    sum(integerFixedArrays.int8Array()) + sum(integerFixedArrays.int16Array()) +
+                    sum(integerFixedArrays.int32Array()) + sum(integerFixedArrays.int64Array());
+        });
+    }
+
+    @Test
+    public void shouldNotAllocateForIntegerVariableArrays()
+    {
+        int limit = buildIntegerVariableArrays();
+        assertAllocationFree("IntegerVariableArraysFW.Builder", this::buildIntegerVariableArrays);
+        assertAllocationFree("IntegerVariableArraysFW.wrap", () -> integerVariableArraysRO.wrap(buffer, 0, limit));
+        assertAllocationFree("IntegerVariableArraysFW.tryWrap", () -> integerVariableArraysRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("IntegerVariableArraysFW accessors", () ->
+        {
+            IntegerVariableArraysFW integerVariableArrays = integerVariableArraysRO.wrap(buffer, 0, limit);
+            sink += integerVariableArrays.fixed1() + integerVariableArrays.fixed2() +
+                    integerVariableArrays.varint32Array().sizeof() + sum(integerVariableArrays.unsigned64Array()) +
+                    sum(integerVariableArrays.signed16Array()) + sum(integerVariableArrays.arrayWithInt8Size()) +
+                    sum(integerVariableArrays.arrayWithInt16Size());
+            integerVariableArrays.varint64Array().forEach(varint64Consumer);
+        });
+        assertAllocationFree("IntegerVariableArraysFW.appendTo", () -> integerVariableArraysRO.appendTo(text).setLength(0));
+    }
+
+    @Test
+    public void shouldNotAllocateForStrings()
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 6).build().limit();
+        assertAllocationFree("StringFW.wrap", () -> stringRO.wrap(buffer, 0, limit));
+        assertAllocationFree("StringFW.tryWrap", () -> stringRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("StringFW.Builder.set(DirectBuffer, int, int)", () ->
+            stringRW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 6).build());
+        assertAllocationFree("StringFW.Builder.set(StringFW)", () ->
+            stringRW.wrap(buffer, 512, buffer.capacity()).set(stringRO).build());
+        assertAllocationFree("StringFW.Builder.set(String, Charset)", () ->
+            stringRW.wrap(buffer, 512, buffer.capacity()).set("value1", UTF_8).build());
+        assertAllocationFree("StringFW.appendTo", () -> stringRO.wrap(buffer, 0, limit).appendTo(text).setLength(0));
+        assertAllocationFree("StringFW.equals(String)", () -> sink += stringRO.equals("value1") ? 1 : 0);
+        assertAllocationFree("StringFW.equalsAscii", () -> sink += stringRO.equalsAscii("value2") ? 1 : 0);
+        assertAllocationFree("StringFW.asCharSequence()", () -> sink += stringRO.asCharSequence().hashCode());
+        assertAllocationFree("StringFW.asString()", () -> sink += stringRO.wrap(buffer, 0, limit).asString().length());
+
+        int limit16 = string16RW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 6).build().limit();
+        assertAllocationFree("String16FW.wrap", () -> string16RO.wrap(buffer, 0, limit16));
+        assertAllocationFree("String16FW.tryWrap", () -> string16RO.tryWrap(buffer, 0, limit16));
+        assertAllocationFree("String16FW.value()", () -> sink += string16RO.wrap(buffer, 0, limit16).value().capacity());
+        assertAllocationFree("String16FW.equals(String)", () -> sink += string16RO.equals("value1") ? 1 : 0);
+        assertAllocationFree("String16FW.equalsAscii", () -> sink += string16RO.equalsAscii("value2") ? 1 : 0);
+        assertAllocationFree("String16FW.asCharSequence()", () ->
+            sink += string16RO.asCharSequence().charAt(0) + string16RO.asCharSequence().length());
+        assertAllocationFree("String16FW.Builder.set(DirectBuffer, int, int)", () ->
+            string16RW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 6).build());
+        assertAllocationFree("String16FW.Builder.set(String, Charset)", () ->
+            string16RW.wrap(buffer, 512, buffer.capacity()).set("value1", UTF_8).build());
+    }
+
+    @Test
+    public void shouldNotAllocateForOctets()
+    {
+        int limit = octetsRW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 10).build().limit();
+        assertAllocationFree("OctetsFW.wrap", () -> octetsRO.wrap(buffer, 0, limit));
+        assertAllocationFree("OctetsFW.tryWrap", () -> octetsRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("OctetsFW.Builder.set(DirectBuffer, int, int)", () ->
+            octetsRW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 10).build());
+        assertAllocationFree("OctetsFW.Builder.put(DirectBuffer, int, int)", () ->
+            octetsRW.wrap(buffer, 0, buffer.capacity()).set(values, 0, 5).put(values, 5, 5).build());
+    }
+
+    @Test
+    public void shouldNotAllocateForVarints()
+    {
+        int limit32 = varint32RW.wrap(buffer, 0, buffer.capacity()).set(-123456).build().limit();
+        assertAllocationFree("Varint32FW.Builder", () -> varint32RW.wrap(buffer, 0, buffer.capacity()).set(-123456).build());
+        assertAllocationFree("Varint32FW.wrap", () -> sink += varint32RO.wrap(buffer, 0, limit32).value());
+        assertAllocationFree("Varint32FW.tryWrap", () -> varint32RO.tryWrap(buffer, 0, limit32));
+
+        int limit64 = varint64RW.wrap(buffer, 0, buffer.capacity()).set(-1234567890123L).build().limit();
+        assertAllocationFree("Varint64FW.Builder", () ->
+            varint64RW.wrap(buffer, 0, buffer.capacity()).set(-1234567890123L).build());
+        assertAllocationFree("Varint64FW.wrap", () -> sink += varint64RO.wrap(buffer, 0, limit64).value());
+        assertAllocationFree("Varint64FW.tryWrap", () -> varint64RO.tryWrap(buffer, 0, limit64));
+        assertAllocationFree("Varint64FW.appendTo", () -> varint64RO.appendTo(text).setLength(0));
+    }
+
+    @Test
+    public void shouldNotAllocateForArray()
+    {
+        int limit = buildArray();
+        assertAllocationFree("ArrayFW.Builder", this::buildArray);
+        assertAllocationFree("ArrayFW.wrap", () -> arrayRO.wrap(buffer, 0, limit));
+        assertAllocationFree("ArrayFW.tryWrap", () -> arrayRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("ArrayFW.forEach", () -> arrayRO.wrap(buffer, 0, limit).forEach(varint64Consumer));
+    }
+
+    @Test
+    public void shouldNotAllocateForEnum()
+    {
+        int limit = rollRW.wrap(buffer, 0, buffer.capacity()).set(Roll.SPRING).build().limit();
+        assertAllocationFree("RollFW.Builder", () -> rollRW.wrap(buffer, 0, buffer.capacity()).set(Roll.SPRING).build());
+        assertAllocationFree("RollFW.wrap", () -> sink += rollRO.wrap(buffer, 0, limit).get().ordinal());
+        assertAllocationFree("RollFW.tryWrap", () -> rollRO.tryWrap(buffer, 0, limit));
+        assertAllocationFree("RollFW.appendTo", () -> rollRO.appendTo(text).setLength(0));
+    }
+
+    private void assertAllocationFree(
+        String operation,
+        Runnable runnable)
+    {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+        {
+            runnable.run();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedAt = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            runnable.run();
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedAt;
+
+        if (!KNOWN_EXCEPTIONS.contains(operation))
+        {
+            assertTrue(String.format("%s allocated %d bytes over %d iterations", operation, allocated, ITERATIONS),
+                    allocated < ITERATIONS);
+        }
+    }
+
+    private int buildFlat()
+    {
+        return flatRW.wrap(buffer, 0, buffer.capacity())
+                     .fixed1(10)
+                     .fixed2(20)
+                     .string1(values, 0, 6)
+                     .fixed3(30)
+                     .string2(values, 0, 6)
+                     .build()
+                     .limit();
+    }
+
+    private int buildNested()
+    {
+        return nestedRW.wrap(buffer, 0, buffer.capacity())
+                       .fixed4(40)
+                       .flat(flatMutator)
+                       .fixed5(50)
+                       .build()
+                       .limit();
+    }
+
+    private int buildFlatWithList()
+    {
+        return flatWithListRW.wrap(buffer, 0, buffer.capacity())
+                             .fixed1(10)
+                             .string1(values, 0, 6)
+                             .list1Item(listItemMutator)
+                             .list1Item(listItemMutator)
+                             .fixed2(20)
+                             .build()
+                             .limit();
+    }
+
+    private int buildFlatWithOctets()
+    {
+        return flatWithOctetsRW.wrap(buffer, 0, buffer.capacity())
+                               .fixed1(10)
+                               .octets1(values, 0, 10)
+                               .string1(values, 0, 6)
+                               .octets2(values, 0, 10)
+                               .lengthOctets3(10)
+                               .octets3(values, 0, 10)
+                               .octets4(values, 0, 10)
+                               .extension(values, 0, 10)
+                               .build()
+                               .limit();
+    }
+
+    private int buildUnionOctets()
+    {
+        return unionOctetsRW.wrap(buffer, 0, buffer.capacity())
+                            .octets4(octetsMutator)
+                            .build()
+                            .limit();
+    }
+
+    private int buildIntegerFixedArrays()
+    {
+        return integerFixedArraysRW.wrap(buffer, 0, buffer.capacity())
+                                   .appendUint8Array(0xFF)
+                                   .appendUint16Array(3)
+                                   .appendUint16Array(0xFFFF)
+                                   .appendUint32Array(10)
+                                   .appendUint32Array(11)
+                                   .appendUint32Array(0xFFFFFFFFL)
+                                   .appendUint64Array(20)
+                                   .appendUint64Array(21)
+                                   .appendUint64Array(22)
+                                   .appendUint64Array(23)
+                                   .anchor(values, 0, 6)
+                                   .appendInt8Array((byte) 127)
+                                   .appendInt16Array((short) 3)
+                                   .appendInt16Array((short) -3)
+                                   .appendInt32Array(-10)
+                                   .appendInt32Array(-11)
+                                   .appendInt32Array(-12)
+                                   .appendInt64Array(-20)
+                                   .appendInt64Array(-21)
+                                   .appendInt64Array(-22)
+                                   .appendInt64Array(-23)
+                                   .build()
+                                   .limit();
+    }
+
+    private int buildIntegerVariableArrays()
+    {
+        return integerVariableArraysRW.wrap(buffer, 0, buffer.capacity())
+                                      .fixed1(11)
+                                      .fixed2((short) 22)
+                                      .varint32Array(varint32ArrayMutator)
+                                      .appendUnsigned64Array(10)
+                                      .appendUnsigned64Array(112345)
+                                      .appendSigned16Array((short) 2)
+                                      .appendSigned16Array((short) -500)
+                                      .varint64Array(varint64ArrayMutator)
+                                      .appendArrayWithInt8Size(123)
+                                      .appendArrayWithInt16Size(124)
+                                      .build()
+                                      .limit();
+    }
+
+    private int buildArray()
+    {
+        return arrayRW.wrap(buffer, 0, buffer.capacity())
+                      .item(varint64Mutator)
+                      .item(varint64Mutator)
+                      .build()
+                      .limit();
+    }
+
+    private static long sum(
+        PrimitiveIterator.OfInt iterator)
+    {
+        long sum = 0L;
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    private static long sum(
+        PrimitiveIterator.OfLong iterator)
+    {
+        long sum = 0L;
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+}